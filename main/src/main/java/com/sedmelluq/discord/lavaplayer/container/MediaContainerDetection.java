@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.unknownFormat;
@@ -56,10 +57,12 @@ public class MediaContainerDetection {
             SavedHeadSeekableInputStream savedHeadInputStream = new SavedHeadSeekableInputStream(inputStream, HEAD_MARK_LIMIT);
             savedHeadInputStream.loadHead();
 
-            result = detectContainer(savedHeadInputStream, true);
+            List<MediaContainerProbe> candidates = findCandidates(savedHeadInputStream);
+
+            result = detectContainer(candidates, savedHeadInputStream, true);
 
             if (result == null) {
-                result = detectContainer(savedHeadInputStream, false);
+                result = detectContainer(candidates, savedHeadInputStream, false);
             }
         } catch (Exception e) {
             throw ExceptionTools.wrapUnfriendlyExceptions("Could not read the file for detecting file type.", SUSPICIOUS, e);
@@ -68,10 +71,19 @@ public class MediaContainerDetection {
         return result != null ? result : unknownFormat();
     }
 
-    private MediaContainerDetectionResult detectContainer(SeekableInputStream innerStream, boolean matchHints)
+    private List<MediaContainerProbe> findCandidates(SavedHeadSeekableInputStream innerStream) {
+        MediaContainerSignatureIndex index = containerRegistry.getSignatureIndex();
+        byte[] head = new byte[index.getMaximumLength()];
+        int length = innerStream.getHead(head);
+
+        return index.match(head, length);
+    }
+
+    private MediaContainerDetectionResult detectContainer(List<MediaContainerProbe> candidates,
+                                                          SeekableInputStream innerStream, boolean matchHints)
         throws IOException {
 
-        for (MediaContainerProbe probe : containerRegistry.getAll()) {
+        for (MediaContainerProbe probe : candidates) {
             if (matchHints == probe.matchesHints(hints)) {
                 innerStream.seek(0);
                 MediaContainerDetectionResult result = checkContainer(probe, reference, innerStream);
@@ -6,6 +6,8 @@ import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Track information probe for one media container type and factory for tracks for that container.
@@ -22,6 +24,17 @@ public interface MediaContainerProbe {
      */
     boolean matchesHints(MediaContainerHints hints);
 
+    /**
+     * Signatures which files of this container always start with, where -1 is a wildcard for any byte value. The probe
+     * is skipped during detection if the file does not start with any of them. Probes which have to scan the file
+     * because there is no fixed signature should return an empty list, which is the default.
+     *
+     * @return Byte sequences of which at least one is at the start of every file detected by this probe
+     */
+    default List<int[]> getSignatures() {
+        return Collections.emptyList();
+    }
+
     /**
      * Detect whether the file readable from the input stream is using this container and if this specific file uses
      * a format and codec that is supported for playback.
@@ -6,6 +6,7 @@ public class MediaContainerRegistry {
     public static final MediaContainerRegistry DEFAULT_REGISTRY = new MediaContainerRegistry(MediaContainer.asList());
 
     private final List<MediaContainerProbe> probes;
+    private volatile MediaContainerSignatureIndex signatureIndex;
 
     public MediaContainerRegistry(List<MediaContainerProbe> probes) {
         this.probes = probes;
@@ -25,6 +26,17 @@ public class MediaContainerRegistry {
         return probes;
     }
 
+    MediaContainerSignatureIndex getSignatureIndex() {
+        MediaContainerSignatureIndex index = signatureIndex;
+
+        if (index == null) {
+            index = new MediaContainerSignatureIndex(probes);
+            signatureIndex = index;
+        }
+
+        return index;
+    }
+
     public static MediaContainerRegistry extended(MediaContainerProbe... additional) {
         List<MediaContainerProbe> probes = MediaContainer.asList();
 
@@ -0,0 +1,122 @@
+package com.sedmelluq.discord.lavaplayer.container;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the signatures of all probes in a registry by their first byte, so that the probes which can match a file
+ * are found from its first bytes in one pass, without each probe reading and rejecting the file separately.
+ */
+class MediaContainerSignatureIndex {
+    private final List<MediaContainerProbe> probes;
+    private final Map<MediaContainerProbe, Boolean> scanning;
+    private final List<Entry>[] buckets;
+    private final int maximumLength;
+
+    @SuppressWarnings("unchecked")
+    MediaContainerSignatureIndex(List<MediaContainerProbe> probes) {
+        this.probes = new ArrayList<>(probes);
+        this.scanning = new IdentityHashMap<>();
+        this.buckets = new List[256];
+
+        int longest = 0;
+
+        for (MediaContainerProbe probe : this.probes) {
+            List<int[]> signatures = probe.getSignatures();
+
+            if (signatures.isEmpty()) {
+                scanning.put(probe, true);
+                continue;
+            }
+
+            for (int[] signature : signatures) {
+                longest = Math.max(longest, signature.length);
+                Entry entry = new Entry(probe, signature);
+
+                if (signature.length == 0 || signature[0] == -1) {
+                    for (int i = 0; i < buckets.length; i++) {
+                        addToBucket(i, entry);
+                    }
+                } else {
+                    addToBucket(signature[0] & 0xFF, entry);
+                }
+            }
+        }
+
+        this.maximumLength = longest;
+    }
+
+    /**
+     * @return Number of bytes from the start of the file which is enough to check all signatures
+     */
+    int getMaximumLength() {
+        return maximumLength;
+    }
+
+    /**
+     * @param head   Bytes from the start of the file
+     * @param length Number of valid bytes in the head buffer
+     * @return Probes which may detect the file in registry order, that is probes which have a signature matching the
+     * head and probes which do not declare any signatures
+     */
+    List<MediaContainerProbe> match(byte[] head, int length) {
+        Map<MediaContainerProbe, Boolean> matched = new IdentityHashMap<>(scanning);
+
+        if (length > 0 && buckets[head[0] & 0xFF] != null) {
+            for (Entry entry : buckets[head[0] & 0xFF]) {
+                if (entry.matches(head, length)) {
+                    matched.put(entry.probe, true);
+                }
+            }
+        }
+
+        if (matched.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<MediaContainerProbe> candidates = new ArrayList<>(matched.size());
+
+        for (MediaContainerProbe probe : probes) {
+            if (matched.containsKey(probe)) {
+                candidates.add(probe);
+            }
+        }
+
+        return candidates;
+    }
+
+    private void addToBucket(int index, Entry entry) {
+        if (buckets[index] == null) {
+            buckets[index] = new ArrayList<>();
+        }
+
+        buckets[index].add(entry);
+    }
+
+    private static class Entry {
+        private final MediaContainerProbe probe;
+        private final int[] signature;
+
+        private Entry(MediaContainerProbe probe, int[] signature) {
+            this.probe = probe;
+            this.signature = signature;
+        }
+
+        private boolean matches(byte[] head, int length) {
+            if (length < signature.length) {
+                return false;
+            }
+
+            for (int i = 0; i < signature.length; i++) {
+                if (signature[i] != -1 && signature[i] != (head[i] & 0xFF)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
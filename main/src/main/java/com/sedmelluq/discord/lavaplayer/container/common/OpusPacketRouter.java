@@ -123,15 +123,15 @@ public class OpusPacketRouter {
     private int processFrameSize(ByteBuffer buffer) {
         int frameSize;
 
-        if (buffer.isDirect()) {
-            buffer.mark();
-            buffer.get(headerBytes);
-            buffer.reset();
+        if (!buffer.hasArray()) {
+            // Packets of a single byte are valid, so the header may be shorter than the header buffer
+            int headerLength = Math.min(headerBytes.length, buffer.remaining());
+            buffer.get(buffer.position(), headerBytes, 0, headerLength);
 
-            frameSize = OpusDecoder.getPacketFrameSize(inputFrequency, headerBytes, 0, headerBytes.length);
+            frameSize = OpusDecoder.getPacketFrameSize(inputFrequency, headerBytes, 0, headerLength);
         } else {
-            frameSize = OpusDecoder.getPacketFrameSize(inputFrequency, buffer.array(), buffer.position(),
-                    buffer.remaining());
+            frameSize = OpusDecoder.getPacketFrameSize(inputFrequency, buffer.array(),
+                    buffer.arrayOffset() + buffer.position(), buffer.remaining());
         }
 
         if (frameSize == 0) {
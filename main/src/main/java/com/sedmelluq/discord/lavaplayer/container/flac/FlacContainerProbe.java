@@ -12,6 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.supportedFormat;
@@ -30,6 +32,11 @@ public class FlacContainerProbe implements MediaContainerProbe {
         return "flac";
     }
 
+    @Override
+    public List<int[]> getSignatures() {
+        return Collections.singletonList(FlacFileLoader.FLAC_CC);
+    }
+
     @Override
     public boolean matchesHints(MediaContainerHints hints) {
         return false;
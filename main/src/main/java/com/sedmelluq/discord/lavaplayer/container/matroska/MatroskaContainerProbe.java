@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.UNKNOWN_ARTIST;
@@ -40,6 +41,11 @@ public class MatroskaContainerProbe implements MediaContainerProbe {
         return "matroska/webm";
     }
 
+    @Override
+    public List<int[]> getSignatures() {
+        return Collections.singletonList(EBML_TAG);
+    }
+
     @Override
     public boolean matchesHints(MediaContainerHints hints) {
         return false;
@@ -48,6 +48,32 @@ public class MatroskaEbmlReader {
         return applyType(code, codeLength, type);
     }
 
+    /**
+     * Read an EBML code from data input, reading all bytes after the first one with a single call.
+     *
+     * @param input  Data input to read bytes from
+     * @param buffer Buffer for the bytes after the first one, at least 7 bytes long
+     * @param type   Method of sign handling (null is unsigned)
+     * @return Read EBML code
+     * @throws IOException On read error
+     */
+    public static long readEbmlInteger(DataInput input, byte[] buffer, Type type) throws IOException {
+        int firstByte = input.readByte() & 0xFF;
+        int codeLength = getCodeLength(firstByte);
+
+        long code = firstByte & (0xFFL >> codeLength);
+
+        if (codeLength > 1) {
+            input.readFully(buffer, 0, codeLength - 1);
+
+            for (int i = 0; i < codeLength - 1; i++) {
+                code = (code << 8) | (buffer[i] & 0xFF);
+            }
+        }
+
+        return applyType(code, codeLength, type);
+    }
+
     /**
      * Read an EBML code from byte buffer.
      *
@@ -82,7 +108,7 @@ public class MatroskaEbmlReader {
     }
 
     private static long applyNextByte(int codeLength, int value, int index) {
-        return value << ((codeLength - index) << 3);
+        return (long) value << ((codeLength - index) << 3);
     }
 
     private static long applyType(long code, int codeLength, Type type) {
@@ -1,8 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.container.matroska.format;
 
 import java.nio.ByteBuffer;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Registry of all required element types. This is not the complete set.
@@ -53,7 +51,9 @@ public enum MatroskaElementType {
     TagString(DataType.STRING, new int[] { 0x44, 0x87 }),
     Unknown(DataType.BINARY, new int[]{});
 
-    private static final Map<Long, MatroskaElementType> mapping;
+    private static final int TABLE_BITS = 7;
+    private static final long[] tableIds;
+    private static final MatroskaElementType[] tableTypes;
 
     /**
      * The ID as EBML code bytes.
@@ -69,15 +69,22 @@ public enum MatroskaElementType {
     public final DataType dataType;
 
     static {
-        Map<Long, MatroskaElementType> codeMapping = new HashMap<>();
+        // Open addressing table with a multiplicative hash, at most half full so that lookups of unknown IDs are short
+        tableIds = new long[1 << TABLE_BITS];
+        tableTypes = new MatroskaElementType[1 << TABLE_BITS];
 
         for (MatroskaElementType code : MatroskaElementType.class.getEnumConstants()) {
             if (code != Unknown) {
-                codeMapping.put(code.id, code);
+                int slot = tableSlot(code.id);
+
+                while (tableTypes[slot] != null) {
+                    slot = (slot + 1) & (tableTypes.length - 1);
+                }
+
+                tableIds[slot] = code.id;
+                tableTypes[slot] = code;
             }
         }
-
-        mapping = codeMapping;
     }
 
     MatroskaElementType(DataType dataType, int[] integers) {
@@ -139,10 +146,21 @@ public enum MatroskaElementType {
      * @return The element type, Unknown if not present.
      */
     public static MatroskaElementType find(long id) {
-        MatroskaElementType code = mapping.get(id);
-        if (code == null) {
-            code = Unknown;
+        int slot = tableSlot(id);
+        MatroskaElementType code;
+
+        while ((code = tableTypes[slot]) != null) {
+            if (tableIds[slot] == id) {
+                return code;
+            }
+
+            slot = (slot + 1) & (tableTypes.length - 1);
         }
-        return code;
+
+        return Unknown;
+    }
+
+    private static int tableSlot(long id) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> (64 - TABLE_BITS));
     }
 }
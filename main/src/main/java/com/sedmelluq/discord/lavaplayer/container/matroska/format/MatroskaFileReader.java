@@ -1,10 +1,12 @@
 package com.sedmelluq.discord.lavaplayer.container.matroska.format;
 
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.SliceableInputStream;
 
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -16,6 +18,7 @@ public class MatroskaFileReader {
     private final DataInput dataInput;
     private final MutableMatroskaElement[] levels;
     private final MutableMatroskaBlock mutableBlock;
+    private final byte[] codeBuffer;
 
     /**
      * @param inputStream Input stream to read from.
@@ -25,6 +28,7 @@ public class MatroskaFileReader {
         this.dataInput = new DataInputStream(inputStream);
         this.levels = new MutableMatroskaElement[8];
         this.mutableBlock = new MutableMatroskaBlock();
+        this.codeBuffer = new byte[8];
     }
 
     /**
@@ -44,8 +48,8 @@ public class MatroskaFileReader {
             throw new IllegalStateException("Current position is beyond this element");
         }
 
-        long id = MatroskaEbmlReader.readEbmlInteger(dataInput, null);
-        long dataSize = MatroskaEbmlReader.readEbmlInteger(dataInput, null);
+        long id = MatroskaEbmlReader.readEbmlInteger(dataInput, codeBuffer, null);
+        long dataSize = MatroskaEbmlReader.readEbmlInteger(dataInput, codeBuffer, null);
         long dataPosition = inputStream.getPosition();
 
         int level = parent == null ? 0 : parent.getLevel() + 1;
@@ -216,6 +220,29 @@ public class MatroskaFileReader {
         inputStream.seek(position);
     }
 
+    /**
+     * Get the next bytes without copying them, if the input stream has them in memory already.
+     *
+     * @param length Number of bytes to read
+     * @return Read-only view of the next bytes, or null if the stream cannot provide them without copying, in which
+     * case the position is not changed
+     * @throws IOException On read error
+     */
+    public ByteBuffer readSlice(int length) throws IOException {
+        if (inputStream instanceof SliceableInputStream) {
+            long position = inputStream.getPosition();
+            ByteBuffer slice = ((SliceableInputStream) inputStream).readSlice(length);
+
+            if (slice.remaining() == length) {
+                return slice;
+            }
+
+            inputStream.seek(position);
+        }
+
+        return null;
+    }
+
     public DataInput getDataInput() {
         return dataInput;
     }
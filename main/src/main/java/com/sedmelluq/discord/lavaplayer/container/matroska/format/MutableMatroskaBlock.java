@@ -7,7 +7,8 @@ import java.nio.ByteBuffer;
 /**
  * An implementation of {@link MatroskaBlock} which can be reused by loading the next block into it by calling
  * {@link #parseHeader(MatroskaFileReader, MatroskaElement, int)}. Does not reallocate any objects unless it encounters
- * a block with more than twice as many frames as seen before, or a frame more than twice as long as before.
+ * a block with more than twice as many frames as seen before, or a frame more than twice as long as before. If the file
+ * is already in memory, frames are returned as views of it instead of being copied into the buffer of the block.
  */
 public class MutableMatroskaBlock implements MatroskaBlock {
     private int timecode;
@@ -45,6 +46,11 @@ public class MutableMatroskaBlock implements MatroskaBlock {
         }
 
         int frameSize = frameSizes[index];
+        ByteBuffer slice = reader.readSlice(frameSize);
+
+        if (slice != null) {
+            return slice;
+        }
 
         if (buffer == null || frameSize > buffer.capacity()) {
             buffer = ByteBuffer.allocate(frameSizes[index] * 2);
@@ -42,9 +42,10 @@ public class MpegAudioTrack extends BaseAudioTrack {
         file.parseHeaders();
 
         MpegTrackConsumer trackConsumer = loadAudioTrack(file, localExecutor.getProcessingContext());
+        MpegFileTrackProvider fileReader = null;
 
         try {
-            MpegFileTrackProvider fileReader = file.loadReader(trackConsumer);
+            fileReader = file.loadReader(trackConsumer);
             if (fileReader == null) {
                 throw new FriendlyException("Unknown MP4 format.", SUSPICIOUS, null);
             }
@@ -53,6 +54,10 @@ public class MpegAudioTrack extends BaseAudioTrack {
 
             localExecutor.executeProcessingLoop(fileReader::provideFrames, fileReader::seekToTimecode);
         } finally {
+            if (fileReader != null) {
+                fileReader.close();
+            }
+
             trackConsumer.close();
         }
     }
@@ -13,6 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.supportedFormat;
@@ -31,6 +33,11 @@ public class MpegContainerProbe implements MediaContainerProbe {
         return "mp4";
     }
 
+    @Override
+    public List<int[]> getSignatures() {
+        return Collections.singletonList(ISO_TAG);
+    }
+
     @Override
     public boolean matchesHints(MediaContainerHints hints) {
         return false;
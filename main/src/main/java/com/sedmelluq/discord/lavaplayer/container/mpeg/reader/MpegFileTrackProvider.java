@@ -35,4 +35,12 @@ public interface MpegFileTrackProvider {
      * @param timecode The timecode to seek to in milliseconds
      */
     void seekToTimecode(long timecode);
+
+    /**
+     * Release anything the provider still holds for providing frames, such as reads running in the background. Called
+     * once the track has stopped playing.
+     */
+    default void close() {
+        // Nothing to release by default
+    }
 }
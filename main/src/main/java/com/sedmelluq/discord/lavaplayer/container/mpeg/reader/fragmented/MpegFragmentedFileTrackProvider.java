@@ -7,6 +7,7 @@ import com.sedmelluq.discord.lavaplayer.container.mpeg.reader.MpegSectionInfo;
 import com.sedmelluq.discord.lavaplayer.container.mpeg.reader.MpegVersionedSectionInfo;
 import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.DetachedByteChannel;
+import com.sedmelluq.discord.lavaplayer.tools.io.RangeReadableInputStream;
 
 import java.io.IOException;
 import java.nio.channels.Channels;
@@ -17,6 +18,8 @@ import java.util.concurrent.atomic.AtomicReference;
  * Track provider for fragmented MP4 file format.
  */
 public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
+    private static final int PREFETCH_DEPTH = 3;
+
     private final MpegReader reader;
     private final MpegSectionInfo root;
 
@@ -26,6 +29,8 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
     private MpegGlobalSeekInfo globalSeekInfo;
     private boolean seeking;
     private long minimumTimecode;
+    private MpegSegmentPrefetcher prefetcher;
+    private int nextSegmentIndex;
 
     /**
      * @param reader MP4-specific reader
@@ -43,25 +48,67 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
         }
 
         this.consumer = consumer;
+        this.prefetcher = createPrefetcher();
         return true;
     }
 
     @Override
     public void provideFrames() throws InterruptedException, IOException {
+        if (prefetcher != null) {
+            provideSegments();
+        } else {
+            provideFragments(reader, root);
+        }
+    }
+
+    private void provideSegments() throws InterruptedException, IOException {
+        try {
+            while (nextSegmentIndex < globalSeekInfo.entries.length) {
+                int index = nextSegmentIndex;
+                int size = globalSeekInfo.entries[index].size;
+                long offset = globalSeekInfo.fileOffsets[index];
+                byte[] segment = prefetcher.getSegment(index);
+
+                nextSegmentIndex = index + 1;
+
+                try {
+                    MpegReader segmentReader = new MpegReader(new MpegSegmentInputStream(segment, offset, size));
+                    provideFragments(segmentReader, new MpegSectionInfo(offset, size, "segment"));
+                } finally {
+                    prefetcher.release(segment);
+                }
+            }
+        } catch (InterruptedException e) {
+            // A seek can still use the segments that are being fetched, a stop cancels them in close()
+            throw e;
+        } catch (Exception e) {
+            prefetcher.cancel();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (prefetcher != null) {
+            prefetcher.cancel();
+        }
+    }
+
+    private void provideFragments(MpegReader source, MpegSectionInfo parent) throws InterruptedException, IOException {
         MpegSectionInfo moof;
 
-        ReadableByteChannel channel = new DetachedByteChannel(Channels.newChannel(reader.seek));
-        while ((moof = reader.nextChild(root)) != null) {
+        ReadableByteChannel channel = new DetachedByteChannel(Channels.newChannel(source.seek));
+        while ((moof = source.nextChild(parent)) != null) {
             if (!"moof".equals(moof.type)) {
-                reader.skip(moof);
+                source.skip(moof);
                 continue;
             }
 
-            MpegTrackFragmentHeader fragment = parseTrackMovieFragment(moof, consumer.getTrack().trackId);
-            MpegSectionInfo mdat = reader.nextChild(root);
+            MpegTrackFragmentHeader fragment = parseTrackMovieFragment(source, moof, consumer.getTrack().trackId);
+            MpegSectionInfo mdat = source.nextChild(parent);
 
             long timecode = fragment.baseTimecode;
-            reader.seek.seek(moof.offset + fragment.dataOffset);
+            source.seek.seek(moof.offset + fragment.dataOffset);
 
             for (int i = 0; i < fragment.sampleSizes.length; i++) {
                 handleSeeking(consumer, timecode);
@@ -69,7 +116,7 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
                 consumer.consume(channel, fragment.sampleSizes[i]);
             }
 
-            reader.skip(mdat);
+            source.skip(mdat);
         }
     }
 
@@ -91,6 +138,12 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
             }
         }
 
+        if (prefetcher != null) {
+            // Nothing to drain, the segment is fetched with a new range read unless it is already being fetched
+            nextSegmentIndex = segmentIndex;
+            return;
+        }
+
         try {
             reader.seek.seek(globalSeekInfo.fileOffsets[segmentIndex]);
         } catch (IOException e) {
@@ -154,6 +207,23 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
         globalSeekInfo = new MpegGlobalSeekInfo(timescale, sbix.offset + sbix.length, entries);
     }
 
+    private MpegSegmentPrefetcher createPrefetcher() {
+        if (globalSeekInfo == null || !(reader.seek instanceof RangeReadableInputStream) ||
+            !((RangeReadableInputStream) reader.seek).canReadRanges()) {
+
+            return null;
+        }
+
+        for (MpegSegmentEntry entry : globalSeekInfo.entries) {
+            // Type 1 references another segment index instead of media
+            if (entry.type != 0) {
+                return null;
+            }
+        }
+
+        return new MpegSegmentPrefetcher((RangeReadableInputStream) reader.seek, globalSeekInfo, PREFETCH_DEPTH);
+    }
+
     private void handleSeeking(MpegTrackConsumer consumer, long timecode) {
         if (seeking) {
             // Even though sample durations may be available, decoding doesn't work if we don't start from the beginning
@@ -163,19 +233,19 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
         }
     }
 
-    private MpegTrackFragmentHeader parseTrackMovieFragment(MpegSectionInfo moof, int trackId) throws IOException {
+    private MpegTrackFragmentHeader parseTrackMovieFragment(MpegReader source, MpegSectionInfo moof, int trackId) throws IOException {
         final AtomicReference<MpegTrackFragmentHeader> header = new AtomicReference<>();
 
-        reader.in(moof).handle("traf", traf -> {
+        source.in(moof).handle("traf", traf -> {
             final MpegTrackFragmentHeader.Builder builder = new MpegTrackFragmentHeader.Builder();
 
-            reader.in(traf).handleVersioned("tfhd", tfhd -> {
-                parseTrackFragmentHeader(tfhd, builder);
+            source.in(traf).handleVersioned("tfhd", tfhd -> {
+                parseTrackFragmentHeader(source, tfhd, builder);
             }).handleVersioned("tfdt", tfdt -> {
-                builder.setBaseTimecode((tfdt.version == 1) ? reader.data.readLong() : reader.data.readInt());
+                builder.setBaseTimecode((tfdt.version == 1) ? source.data.readLong() : source.data.readInt());
             }).handleVersioned("trun", trun -> {
                 if (builder.getTrackId() == trackId) {
-                    parseTrackRunInfo(trun, builder);
+                    parseTrackRunInfo(source, trun, builder);
                 }
             }).run();
 
@@ -187,36 +257,36 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
         return header.get();
     }
 
-    private void parseTrackFragmentHeader(MpegVersionedSectionInfo tfhd, MpegTrackFragmentHeader.Builder builder) throws IOException {
-        builder.setTrackId(reader.data.readInt());
+    private void parseTrackFragmentHeader(MpegReader source, MpegVersionedSectionInfo tfhd, MpegTrackFragmentHeader.Builder builder) throws IOException {
+        builder.setTrackId(source.data.readInt());
 
         if ((tfhd.flags & 0x000010) != 0) {
             // Need to read default sample size, but first must skip the fields before it
             if ((tfhd.flags & 0x000001) != 0) {
                 // Skip baseDataOffset
-                reader.data.readLong();
+                source.data.readLong();
             }
 
             if ((tfhd.flags & 0x000002) != 0) {
                 // Skip sampleDescriptionIndex
-                reader.data.readInt();
+                source.data.readInt();
             }
 
             if ((tfhd.flags & 0x000008) != 0) {
                 // Skip defaultSampleDuration
-                reader.data.readInt();
+                source.data.readInt();
             }
 
-            builder.setDefaultSampleSize(reader.data.readInt());
+            builder.setDefaultSampleSize(source.data.readInt());
         }
     }
 
-    private void parseTrackRunInfo(MpegVersionedSectionInfo trun, MpegTrackFragmentHeader.Builder builder) throws IOException {
-        int sampleCount = reader.data.readInt();
-        builder.setDataOffset(((trun.flags & 0x01) != 0) ? reader.data.readInt() : -1);
+    private void parseTrackRunInfo(MpegReader source, MpegVersionedSectionInfo trun, MpegTrackFragmentHeader.Builder builder) throws IOException {
+        int sampleCount = source.data.readInt();
+        builder.setDataOffset(((trun.flags & 0x01) != 0) ? source.data.readInt() : -1);
 
         if ((trun.flags & 0x04) != 0) {
-            reader.data.skipBytes(4); // first sample flags
+            source.data.skipBytes(4); // first sample flags
         }
 
         boolean hasDurations = (trun.flags & 0x100) != 0;
@@ -226,16 +296,16 @@ public class MpegFragmentedFileTrackProvider implements MpegFileTrackProvider {
 
         for (int i = 0; i < sampleCount; i++) {
             if (hasDurations) {
-                builder.setDuration(i, reader.data.readInt());
+                builder.setDuration(i, source.data.readInt());
             }
             if (hasSizes) {
-                builder.setSize(i, reader.data.readInt());
+                builder.setSize(i, source.data.readInt());
             }
             if ((trun.flags & 0x400) != 0) {
-                reader.data.skipBytes(4);
+                source.data.skipBytes(4);
             }
             if ((trun.flags & 0x800) != 0) {
-                reader.data.skipBytes(4);
+                source.data.skipBytes(4);
             }
         }
     }
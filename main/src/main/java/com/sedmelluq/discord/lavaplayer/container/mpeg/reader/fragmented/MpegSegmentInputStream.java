@@ -0,0 +1,85 @@
+package com.sedmelluq.discord.lavaplayer.container.mpeg.reader.fragmented;
+
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stream over one segment of a file which has been read into memory. Positions are those in the file, so that offsets
+ * from the segment index and the boxes apply as they are.
+ */
+class MpegSegmentInputStream extends SeekableInputStream {
+    private final byte[] buffer;
+    private final long startOffset;
+    private final int length;
+    private int position;
+
+    /**
+     * @param buffer      Buffer containing the segment from its start
+     * @param startOffset Offset of the segment in the file
+     * @param length      Length of the segment
+     */
+    MpegSegmentInputStream(byte[] buffer, long startOffset, int length) {
+        super(startOffset + length, Long.MAX_VALUE);
+        this.buffer = buffer;
+        this.startOffset = startOffset;
+        this.length = length;
+    }
+
+    @Override
+    public int read() {
+        return position < length ? buffer[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int count) {
+        if (position >= length) {
+            return -1;
+        }
+
+        int chunk = Math.min(count, length - position);
+        System.arraycopy(buffer, position, target, offset, chunk);
+        position += chunk;
+        return chunk;
+    }
+
+    @Override
+    public long skip(long count) {
+        int chunk = (int) Math.max(0, Math.min(count, length - position));
+        position += chunk;
+        return chunk;
+    }
+
+    @Override
+    public int available() {
+        return length - position;
+    }
+
+    @Override
+    public long getPosition() {
+        return startOffset + position;
+    }
+
+    @Override
+    protected void seekHard(long target) throws IOException {
+        if (target < startOffset || target > startOffset + length) {
+            throw new EOFException("Position " + target + " is outside of the segment.");
+        }
+
+        position = (int) (target - startOffset);
+    }
+
+    @Override
+    public boolean canSeekHard() {
+        return true;
+    }
+
+    @Override
+    public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+        return Collections.emptyList();
+    }
+}
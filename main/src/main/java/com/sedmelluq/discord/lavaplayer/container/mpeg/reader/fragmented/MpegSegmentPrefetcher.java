@@ -0,0 +1,165 @@
+package com.sedmelluq.discord.lavaplayer.container.mpeg.reader.fragmented;
+
+import com.sedmelluq.discord.lavaplayer.tools.io.RangeReadableInputStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Fetches the segments of a fragmented MP4 file by their byte ranges from the segment index. The requested segment is
+ * fetched on the calling thread unless a fetch for it is already running, while the ones following it are fetched
+ * ahead in parallel in the range read executor of the stream. When that executor is busy, fetching ahead is skipped
+ * and the segment is fetched once it is requested, so fetching ahead never delays the segment which is being waited
+ * for. Buffers of played segments are reused for later ones. Pending fetches are kept across seeks and cancelled when
+ * playback stops.
+ */
+class MpegSegmentPrefetcher {
+    private final RangeReadableInputStream source;
+    private final MpegGlobalSeekInfo seekInfo;
+    private final int depth;
+    private final Map<Integer, FutureTask<byte[]>> pending;
+    private final ArrayDeque<byte[]> freeBuffers;
+
+    /**
+     * @param source   Stream to read the segment ranges from
+     * @param seekInfo Segment index of the file
+     * @param depth    Maximum number of segments after the requested one to fetch ahead
+     */
+    MpegSegmentPrefetcher(RangeReadableInputStream source, MpegGlobalSeekInfo seekInfo, int depth) {
+        this.source = source;
+        this.seekInfo = seekInfo;
+        this.depth = depth;
+        this.pending = new HashMap<>();
+        this.freeBuffers = new ArrayDeque<>();
+    }
+
+    /**
+     * Get the contents of a segment, waiting for it if necessary. Fetches which are not for this segment or the ones
+     * after it are cancelled, so after a seek nothing is left to be downloaded for the previous position.
+     *
+     * @param index Index of the segment
+     * @return Buffer which contains the segment from its start, should be released once it is no longer used
+     * @throws InterruptedException When interrupted while waiting, the fetch of the segment is kept
+     * @throws IOException          When fetching the segment failed
+     */
+    byte[] getSegment(int index) throws InterruptedException, IOException {
+        int last = Math.min(index + depth, seekInfo.entries.length - 1);
+
+        for (Iterator<Map.Entry<Integer, FutureTask<byte[]>>> iterator = pending.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Integer, FutureTask<byte[]>> entry = iterator.next();
+
+            if (entry.getKey() < index || entry.getKey() > last) {
+                entry.getValue().cancel(true);
+                iterator.remove();
+            }
+        }
+
+        FutureTask<byte[]> segment = pending.computeIfAbsent(index, this::createFetch);
+
+        for (int i = index + 1; i <= last; i++) {
+            if (!pending.containsKey(i) && !fetchAhead(i)) {
+                break;
+            }
+        }
+
+        // Does nothing if the executor has already started it, otherwise it is not left waiting behind other fetches
+        segment.run();
+
+        try {
+            byte[] buffer = segment.get();
+            pending.remove(index);
+            return buffer;
+        } catch (ExecutionException e) {
+            pending.remove(index);
+
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * @param buffer Buffer of a segment which is no longer used
+     */
+    void release(byte[] buffer) {
+        synchronized (freeBuffers) {
+            // Replacing the oldest one keeps the pool from filling up with buffers which are too small for later segments
+            if (freeBuffers.size() > depth) {
+                freeBuffers.poll();
+            }
+
+            freeBuffers.add(buffer);
+        }
+    }
+
+    /**
+     * Cancel all fetches.
+     */
+    void cancel() {
+        for (FutureTask<byte[]> segment : pending.values()) {
+            segment.cancel(true);
+        }
+
+        pending.clear();
+    }
+
+    private FutureTask<byte[]> createFetch(int index) {
+        return new FutureTask<>(() -> fetch(index));
+    }
+
+    private boolean fetchAhead(int index) throws IOException {
+        ExecutorService executor = source.getRangeReadExecutor();
+        FutureTask<byte[]> segment = createFetch(index);
+
+        if (executor.isShutdown()) {
+            cancel();
+            throw new IOException("Segment fetch executor has been shut down.");
+        }
+
+        try {
+            executor.execute(segment);
+        } catch (RejectedExecutionException e) {
+            // The executor queue is full, the segment is fetched when it is requested instead
+            return false;
+        }
+
+        pending.put(index, segment);
+        return true;
+    }
+
+    private byte[] fetch(int index) throws IOException {
+        int size = seekInfo.entries[index].size;
+        byte[] buffer = acquireBuffer(size);
+
+        if (source.readRange(seekInfo.fileOffsets[index], buffer, 0, size) < size) {
+            throw new EOFException("Stream ended in the middle of segment " + index + ".");
+        }
+
+        return buffer;
+    }
+
+    private byte[] acquireBuffer(int size) {
+        synchronized (freeBuffers) {
+            for (Iterator<byte[]> iterator = freeBuffers.iterator(); iterator.hasNext(); ) {
+                byte[] buffer = iterator.next();
+
+                if (buffer.length >= size) {
+                    iterator.remove();
+                    return buffer;
+                }
+            }
+        }
+
+        return new byte[size];
+    }
+}
@@ -0,0 +1,249 @@
+package com.sedmelluq.discord.lavaplayer.container.mpeg.reader.standard;
+
+/**
+ * Index of the samples of one track in a standard MP4 file, built from its sample table. It is kept close to the size of
+ * the tables in the file instead of expanding them per sample: the time-to-sample and sample-to-chunk tables are kept as
+ * runs which are looked up with a binary search, chunk offsets are stored as 32-bit deltas from a base offset per block
+ * of chunks and sample sizes in the narrowest array type that fits them.
+ */
+class MpegSampleTableIndex {
+    private static final int OFFSET_BLOCK_BITS = 6;
+
+    private final int chunkCount;
+    private final long[] offsetBases;
+    private final int[] offsetDeltas;
+    private final long[] offsets;
+
+    private final int[] chunkingFirstChunk;
+    private final int[] chunkingSampleCount;
+    private final long[] chunkingFirstSample;
+
+    private final long[] timingFirstSample;
+    private final long[] timingFirstTime;
+    private final int[] timingDelta;
+
+    private final int constantSampleSize;
+    private final char[] narrowSampleSizes;
+    private final int[] sampleSizes;
+
+    private final int sampleCount;
+    private final long totalDuration;
+
+    /**
+     * @param chunkOffsets        File offsets of chunks (stco or co64)
+     * @param sampleChunkingFirst First chunk of each sample-to-chunk entry, starting from 1 (stsc)
+     * @param sampleChunkingCount Samples per chunk of each sample-to-chunk entry (stsc)
+     * @param sampleTimeCounts    Sample count of each time-to-sample entry (stts)
+     * @param sampleTimeDeltas    Sample duration of each time-to-sample entry (stts)
+     * @param sampleSize          Size of all samples, 0 if they have individual sizes (stsz)
+     * @param sampleSizes         Individual sizes of samples if sample size is 0 (stsz)
+     */
+    MpegSampleTableIndex(long[] chunkOffsets, int[] sampleChunkingFirst, int[] sampleChunkingCount,
+                         int[] sampleTimeCounts, int[] sampleTimeDeltas, int sampleSize, int[] sampleSizes) {
+
+        this.chunkCount = chunkOffsets.length;
+
+        int blockCount = (chunkCount + (1 << OFFSET_BLOCK_BITS) - 1) >> OFFSET_BLOCK_BITS;
+        long[] bases = new long[blockCount];
+        int[] deltas = new int[chunkCount];
+        boolean deltasFit = true;
+
+        for (int i = 0; i < chunkCount && deltasFit; i++) {
+            if ((i & ((1 << OFFSET_BLOCK_BITS) - 1)) == 0) {
+                bases[i >> OFFSET_BLOCK_BITS] = chunkOffsets[i];
+            }
+
+            long delta = chunkOffsets[i] - bases[i >> OFFSET_BLOCK_BITS];
+            deltas[i] = (int) delta;
+            deltasFit = delta == deltas[i];
+        }
+
+        this.offsetBases = deltasFit ? bases : null;
+        this.offsetDeltas = deltasFit ? deltas : null;
+        this.offsets = deltasFit ? null : chunkOffsets;
+
+        this.chunkingFirstChunk = new int[sampleChunkingFirst.length];
+        this.chunkingSampleCount = sampleChunkingCount;
+        this.chunkingFirstSample = new long[sampleChunkingFirst.length];
+
+        for (int i = 0; i < sampleChunkingFirst.length; i++) {
+            chunkingFirstChunk[i] = sampleChunkingFirst[i] - 1;
+
+            if (i > 0) {
+                chunkingFirstSample[i] = chunkingFirstSample[i - 1] +
+                    (long) (chunkingFirstChunk[i] - chunkingFirstChunk[i - 1]) * sampleChunkingCount[i - 1];
+            }
+        }
+
+        this.sampleCount = chunkCount > 0 && sampleChunkingFirst.length > 0 ? (int) getFirstSample(chunkCount) : 0;
+
+        this.timingFirstSample = new long[sampleTimeCounts.length];
+        this.timingFirstTime = new long[sampleTimeCounts.length];
+        this.timingDelta = sampleTimeDeltas;
+
+        for (int i = 1; i < sampleTimeCounts.length; i++) {
+            timingFirstSample[i] = timingFirstSample[i - 1] + Integer.toUnsignedLong(sampleTimeCounts[i - 1]);
+            timingFirstTime[i] = timingFirstTime[i - 1] + Integer.toUnsignedLong(sampleTimeCounts[i - 1]) * sampleTimeDeltas[i - 1];
+        }
+
+        this.totalDuration = getSampleTime(sampleCount);
+
+        this.constantSampleSize = sampleSize;
+        this.narrowSampleSizes = sampleSize == 0 ? narrowSizes(sampleSizes) : null;
+        this.sampleSizes = sampleSize == 0 && narrowSampleSizes == null ? sampleSizes : null;
+    }
+
+    /**
+     * @return Number of chunks
+     */
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * @return Duration of all samples in the timescale of the track
+     */
+    long getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * @param chunk Chunk index
+     * @return File offset of the chunk
+     */
+    long getChunkOffset(int chunk) {
+        if (offsets != null) {
+            return offsets[chunk];
+        }
+
+        return offsetBases[chunk >> OFFSET_BLOCK_BITS] + offsetDeltas[chunk];
+    }
+
+    /**
+     * @param chunk Chunk index
+     * @return Index of the first sample in the chunk
+     */
+    int getChunkFirstSample(int chunk) {
+        return (int) getFirstSample(chunk);
+    }
+
+    /**
+     * @param chunk Chunk index
+     * @return Number of samples in the chunk
+     */
+    int getChunkSampleCount(int chunk) {
+        return chunkingSampleCount[findChunkingEntry(chunk)];
+    }
+
+    /**
+     * @param chunk Chunk index
+     * @return Timecode of the start of the chunk in the timescale of the track
+     */
+    long getChunkTimecode(int chunk) {
+        return getSampleTime(getFirstSample(chunk));
+    }
+
+    /**
+     * @param sample Sample index
+     * @return Size of the sample in bytes
+     */
+    int getSampleSize(int sample) {
+        if (narrowSampleSizes != null) {
+            return narrowSampleSizes[sample];
+        } else if (sampleSizes != null) {
+            return sampleSizes[sample];
+        }
+
+        return constantSampleSize;
+    }
+
+    /**
+     * @param timecode Timecode in the timescale of the track, smaller than the total duration
+     * @return Index of the chunk which contains the sample at the timecode
+     */
+    int findChunk(long timecode) {
+        long sample = findSample(timecode);
+        int entry = findLast(chunkingFirstSample, sample);
+        int count = chunkingSampleCount[entry];
+        long chunk = chunkingFirstChunk[entry] + (count > 0 ? (sample - chunkingFirstSample[entry]) / count : 0);
+
+        return (int) Math.max(0, Math.min(chunk, chunkCount - 1));
+    }
+
+    private long getFirstSample(int chunk) {
+        int entry = findChunkingEntry(chunk);
+        return chunkingFirstSample[entry] + (long) (chunk - chunkingFirstChunk[entry]) * chunkingSampleCount[entry];
+    }
+
+    private int findChunkingEntry(int chunk) {
+        int low = 0;
+        int high = chunkingFirstChunk.length - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (chunkingFirstChunk[middle] <= chunk) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private long getSampleTime(long sample) {
+        if (timingDelta.length == 0) {
+            return 0;
+        }
+
+        // Samples past the last entry continue with its duration
+        int entry = findLast(timingFirstSample, sample);
+        return timingFirstTime[entry] + (sample - timingFirstSample[entry]) * timingDelta[entry];
+    }
+
+    private long findSample(long timecode) {
+        if (timingDelta.length == 0) {
+            return 0;
+        }
+
+        int entry = findLast(timingFirstTime, timecode);
+        long delta = timingDelta[entry];
+        long sample = timingFirstSample[entry] + (delta > 0 ? (timecode - timingFirstTime[entry]) / delta : 0);
+
+        return Math.min(sample, Math.max(0, sampleCount - 1));
+    }
+
+    private static int findLast(long[] values, long value) {
+        int low = 0;
+        int high = values.length - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (values[middle] <= value) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private static char[] narrowSizes(int[] sizes) {
+        for (int size : sizes) {
+            if ((size & 0xFFFF0000) != 0) {
+                return null;
+            }
+        }
+
+        char[] narrow = new char[sizes.length];
+
+        for (int i = 0; i < sizes.length; i++) {
+            narrow[i] = (char) sizes[i];
+        }
+
+        return narrow;
+    }
+}
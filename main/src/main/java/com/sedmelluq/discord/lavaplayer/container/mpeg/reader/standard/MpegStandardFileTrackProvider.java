@@ -24,7 +24,7 @@ public class MpegStandardFileTrackProvider implements MpegFileTrackProvider {
     private int timescale;
     private int currentChunk;
     private MpegTrackConsumer consumer;
-    private TrackSeekInfo seekInfo;
+    private MpegSampleTableIndex seekInfo;
 
     /**
      * @param reader MP4-specific reader
@@ -61,18 +61,20 @@ public class MpegStandardFileTrackProvider implements MpegFileTrackProvider {
 
     @Override
     public long getDuration() {
-        return seekInfo.totalDuration * 1000L / timescale;
+        return seekInfo.getTotalDuration() * 1000L / timescale;
     }
 
     @Override
     public void provideFrames() throws InterruptedException {
         try (ReadableByteChannel channel = new DetachedByteChannel(Channels.newChannel(reader.seek))) {
-            while (currentChunk < seekInfo.chunkOffsets.length) {
-                reader.seek.seek(seekInfo.chunkOffsets[currentChunk]);
+            while (currentChunk < seekInfo.getChunkCount()) {
+                reader.seek.seek(seekInfo.getChunkOffset(currentChunk));
 
-                int[] samples = seekInfo.chunkSamples[currentChunk];
-                for (int i = 0; i < samples.length; i++) {
-                    consumer.consume(channel, samples[i]);
+                int firstSample = seekInfo.getChunkFirstSample(currentChunk);
+                int sampleCount = seekInfo.getChunkSampleCount(currentChunk);
+
+                for (int i = 0; i < sampleCount; i++) {
+                    consumer.consume(channel, seekInfo.getSampleSize(firstSample + i));
                 }
 
                 currentChunk++;
@@ -85,21 +87,13 @@ public class MpegStandardFileTrackProvider implements MpegFileTrackProvider {
     @Override
     public void seekToTimecode(long timecode) {
         long scaledTimecode = timecode * timescale / 1000;
-        int length = seekInfo.chunkOffsets.length;
 
-        if (scaledTimecode >= seekInfo.totalDuration) {
-            currentChunk = length;
-            consumer.seekPerformed(timecode, seekInfo.totalDuration * 1000 / timescale);
+        if (scaledTimecode >= seekInfo.getTotalDuration()) {
+            currentChunk = seekInfo.getChunkCount();
+            consumer.seekPerformed(timecode, seekInfo.getTotalDuration() * 1000 / timescale);
         } else {
-            for (int i = 0; i < length; i++) {
-                long nextTimecode = i < length - 1 ? seekInfo.chunkTimecodes[i + 1] : seekInfo.totalDuration;
-
-                if (scaledTimecode < nextTimecode) {
-                    consumer.seekPerformed(timecode, seekInfo.chunkTimecodes[i] * 1000 / timescale);
-                    currentChunk = i;
-                    break;
-                }
-            }
+            currentChunk = seekInfo.findChunk(scaledTimecode);
+            consumer.seekPerformed(timecode, seekInfo.getChunkTimecode(currentChunk) * 1000 / timescale);
         }
     }
 
@@ -206,20 +200,6 @@ public class MpegStandardFileTrackProvider implements MpegFileTrackProvider {
         }
     }
 
-    private static class TrackSeekInfo {
-        private final long totalDuration;
-        private final long[] chunkOffsets;
-        private final long[] chunkTimecodes;
-        private final int[][] chunkSamples;
-
-        private TrackSeekInfo(long totalDuration, long[] chunkOffsets, long[] chunkTimecodes, int[][] chunkSamples) {
-            this.totalDuration = totalDuration;
-            this.chunkOffsets = chunkOffsets;
-            this.chunkTimecodes = chunkTimecodes;
-            this.chunkSamples = chunkSamples;
-        }
-    }
-
     private static class TrackSeekInfoBuilder {
         private final int trackId;
         private int presence;
@@ -236,100 +216,13 @@ public class MpegStandardFileTrackProvider implements MpegFileTrackProvider {
             this.trackId = trackId;
         }
 
-        private TrackSeekInfo build() {
+        private MpegSampleTableIndex build() {
             if (presence != 15) {
                 return null;
             }
 
-            long[] chunkTimecodes = new long[chunkOffsets.length];
-            int[][] chunkSamples = new int[chunkOffsets.length][];
-
-            SampleChunkingIterator chunkingIterator = new SampleChunkingIterator(sampleChunkingFirst, sampleChunkingCount);
-            SampleDurationIterator durationIterator = new SampleDurationIterator(sampleTimeCounts, sampleTimeDeltas);
-
-            int sampleOffset = 0;
-            long timeOffset = 0;
-
-            for (int chunk = 0; chunk < chunkOffsets.length; chunk++) {
-                int chunkSampleCount = chunkingIterator.nextSampleCount();
-
-                chunkSamples[chunk] = buildChunkSampleSizes(chunkSampleCount, sampleOffset, sampleSize, sampleSizes);
-                chunkTimecodes[chunk] = timeOffset;
-
-                timeOffset += calculateChunkDuration(chunkSampleCount, durationIterator);
-                sampleOffset += chunkSampleCount;
-            }
-
-            return new TrackSeekInfo(timeOffset, chunkOffsets, chunkTimecodes, chunkSamples);
-        }
-
-        private static int[] buildChunkSampleSizes(int sampleCount, int sampleOffset, int sampleSize, int[] sampleSizes) {
-            int[] chunkSampleSizes = new int[sampleCount];
-
-            if (sampleSize != 0) {
-                for (int i = 0; i < sampleCount; i++) {
-                    chunkSampleSizes[i] = sampleSize;
-                }
-            } else {
-                System.arraycopy(sampleSizes, sampleOffset, chunkSampleSizes, 0, sampleCount);
-            }
-
-            return chunkSampleSizes;
-        }
-
-        private static int calculateChunkDuration(int sampleCount, SampleDurationIterator durationIterator) {
-            int duration = 0;
-
-            for (int i = 0; i < sampleCount; i++) {
-                duration += durationIterator.nextSampleDuration();
-            }
-
-            return duration;
-        }
-    }
-
-    private static class SampleChunkingIterator {
-        private final int[] sampleChunkingFirst;
-        private final int[] sampleChunkingCount;
-        private int chunkIndex = 1;
-        private int entryIndex = 0;
-
-        private SampleChunkingIterator(int[] sampleChunkingFirst, int[] sampleChunkingCount) {
-            this.sampleChunkingFirst = sampleChunkingFirst;
-            this.sampleChunkingCount = sampleChunkingCount;
-        }
-
-        private int nextSampleCount() {
-            int result = sampleChunkingCount[entryIndex];
-            chunkIndex++;
-
-            if (entryIndex + 1 < sampleChunkingFirst.length && chunkIndex == sampleChunkingFirst[entryIndex + 1]) {
-                entryIndex++;
-            }
-
-            return result;
-        }
-    }
-
-    private static class SampleDurationIterator {
-        private final int[] sampleTimeCounts;
-        private final int[] sampleTimeDeltas;
-        private int relativeSampleIndex = 0;
-        private int entryIndex = 0;
-
-        private SampleDurationIterator(int[] sampleTimeCounts, int[] sampleTimeDeltas) {
-            this.sampleTimeCounts = sampleTimeCounts;
-            this.sampleTimeDeltas = sampleTimeDeltas;
-        }
-
-        private int nextSampleDuration() {
-            int result = sampleTimeDeltas[entryIndex];
-
-            if (entryIndex + 1 < sampleTimeCounts.length && ++relativeSampleIndex >= sampleTimeCounts[entryIndex]) {
-                entryIndex++;
-            }
-
-            return result;
+            return new MpegSampleTableIndex(chunkOffsets, sampleChunkingFirst, sampleChunkingCount, sampleTimeCounts,
+                sampleTimeDeltas, sampleSize, sampleSizes);
         }
     }
 }
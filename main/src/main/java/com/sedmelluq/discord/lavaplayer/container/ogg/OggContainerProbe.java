@@ -12,6 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.supportedFormat;
@@ -28,6 +30,11 @@ public class OggContainerProbe implements MediaContainerProbe {
         return "ogg";
     }
 
+    @Override
+    public List<int[]> getSignatures() {
+        return Collections.singletonList(OGG_PAGE_HEADER);
+    }
+
     @Override
     public boolean matchesHints(MediaContainerHints hints) {
         return false;
@@ -1,13 +1,14 @@
 package com.sedmelluq.discord.lavaplayer.container.ogg;
 
+import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.tools.io.StreamTools;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 
-import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
-
 /**
  * This provides a stream for OGG packets where the stream is always bounded to the current packet, and the next packet
  * can be started with startNewPacket(). The same way it is bound to a specific track and the next track can be started
@@ -16,15 +17,22 @@ import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection
 public class OggPacketInputStream extends InputStream {
     static final int[] OGG_PAGE_HEADER = new int[]{0x4F, 0x67, 0x67, 0x53};
 
+    private static final int PAGE_HEADER_SIZE = 27;
     private static final int SHORT_SCAN = 10240;
     private static final int LONG_SCAN = 65307;
+    private static final int MAXIMUM_PAGE_SIZE = 65307;
+    private static final int BISECTION_RANGE = 16384;
 
     private final SeekableInputStream inputStream;
     private final boolean closeDelegated;
     private final DataInput dataInput;
     private final int[] segmentSizes;
+    private final byte[] headerBuffer;
+    private final byte[] segmentBuffer;
 
     private List<OggSeekPoint> seekPoints;
+    private int bisectionSampleRate;
+    private long bisectionStartPosition;
     private OggPageHeader pageHeader;
     private int bytesLeftInPacket;
     private boolean packetContinues;
@@ -40,6 +48,8 @@ public class OggPacketInputStream extends InputStream {
         this.closeDelegated = closeDelegated;
         this.dataInput = new DataInputStream(inputStream);
         this.segmentSizes = new int[256];
+        this.headerBuffer = new byte[PAGE_HEADER_SIZE];
+        this.segmentBuffer = new byte[256];
         this.state = State.TRACK_BOUNDARY;
     }
 
@@ -47,6 +57,23 @@ public class OggPacketInputStream extends InputStream {
         this.seekPoints = seekPoints;
     }
 
+    /**
+     * Enable seeking by bisecting the stream on the granule positions of pages, so that a seek reads only a few ranges of
+     * the stream instead of requiring a seek table of all pages. Only the pages after the current one are used as seek
+     * targets, so this should be called once the header packets have been read. Has no effect if the stream cannot seek
+     * or its length is unknown.
+     *
+     * @param sampleRate Sample rate of the granule positions in this stream.
+     */
+    public void enableBisectionSeek(int sampleRate) {
+        if (inputStream.canSeekHard() && pageHeader != null &&
+            inputStream.getContentLength() != Units.CONTENT_LENGTH_UNKNOWN) {
+
+            bisectionSampleRate = sampleRate;
+            bisectionStartPosition = pageHeader.byteStreamPosition;
+        }
+    }
+
     /**
      * Load the next track from the stream. This is only valid when the stream is in a track boundary state.
      *
@@ -96,29 +123,40 @@ public class OggPacketInputStream extends InputStream {
     }
 
     private boolean readPageHeader() throws IOException {
-        if (!checkNextBytes(inputStream, OGG_PAGE_HEADER, false)) {
-            if (inputStream.read() == -1) {
-                return false;
-            }
+        int headerLength = StreamTools.readUntilEnd(inputStream, headerBuffer, 0, PAGE_HEADER_SIZE);
 
+        if (headerLength < OGG_PAGE_HEADER.length) {
+            // Too short to be a page, treated as the end of the stream
+            return false;
+        } else if (!isCapturePattern(headerBuffer)) {
             throw new IllegalStateException("Stream is not positioned at a page header.");
-        } else if ((dataInput.readByte() & 0xFF) != 0) {
+        } else if (headerLength < PAGE_HEADER_SIZE) {
+            throw new EOFException("Stream ended in the middle of a page header.");
+        } else if (headerBuffer[4] != 0) {
             throw new IllegalStateException("Unknown OGG stream version.");
         }
 
-        int flags = dataInput.readByte() & 0xFF;
-        long position = Long.reverseBytes(dataInput.readLong());
-        int streamIdentifier = Integer.reverseBytes(dataInput.readInt());
-        int pageSequence = Integer.reverseBytes(dataInput.readInt());
-        int checksum = Integer.reverseBytes(dataInput.readInt());
-        int segmentCount = dataInput.readByte() & 0xFF;
-        long byteStreamPosition = inputStream.getPosition() - 27;
+        ByteBuffer header = ByteBuffer.wrap(headerBuffer).order(ByteOrder.LITTLE_ENDIAN);
+        int segmentCount = headerBuffer[26] & 0xFF;
+        long byteStreamPosition = inputStream.getPosition() - PAGE_HEADER_SIZE;
+
+        pageHeader = new OggPageHeader(headerBuffer[5] & 0xFF, header.getLong(6), header.getInt(14), header.getInt(18),
+            header.getInt(22), segmentCount, byteStreamPosition);
 
-        pageHeader = new OggPageHeader(flags, position, streamIdentifier, pageSequence, checksum, segmentCount,
-            byteStreamPosition);
+        dataInput.readFully(segmentBuffer, 0, segmentCount);
 
         for (int i = 0; i < segmentCount; i++) {
-            segmentSizes[i] = dataInput.readByte() & 0xFF;
+            segmentSizes[i] = segmentBuffer[i] & 0xFF;
+        }
+
+        return true;
+    }
+
+    private static boolean isCapturePattern(byte[] header) {
+        for (int i = 0; i < OGG_PAGE_HEADER.length; i++) {
+            if ((header[i] & 0xFF) != OGG_PAGE_HEADER[i]) {
+                return false;
+            }
         }
 
         return true;
@@ -290,6 +328,10 @@ public class OggPacketInputStream extends InputStream {
      */
     public long seek(long timecode) throws IOException {
         if (seekPoints == null) {
+            if (bisectionSampleRate > 0) {
+                return bisectionSeek(timecode);
+            }
+
             throw new IllegalStateException("Seek points have not been set.");
         }
 
@@ -317,6 +359,75 @@ public class OggPacketInputStream extends InputStream {
         return seekPoint.getTimecode();
     }
 
+    private long bisectionSeek(long timecode) throws IOException {
+        long targetGranule = timecode * (bisectionSampleRate / 1000);
+        long low = bisectionStartPosition + 1;
+        long high = inputStream.getContentLength();
+        OggSeekPoint best = null;
+
+        // Invariant: the last page at or before the target starts in the range [low, high), or it is the best one so far
+        while (high - low > BISECTION_RANGE) {
+            long middle = (low + high) >>> 1;
+            OggSeekPoint page = findFirstPage(middle, high);
+
+            if (page != null && page.getGranulePosition() <= targetGranule) {
+                best = page;
+                low = page.getPosition() + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        OggSeekPoint first = null;
+
+        for (OggSeekPoint page : readPages(low, (int) (high - low) + MAXIMUM_PAGE_SIZE)) {
+            if (page.getPosition() >= high) {
+                break;
+            } else if (page.getGranulePosition() < 0) {
+                continue;
+            } else if (page.getGranulePosition() > targetGranule) {
+                first = page;
+                break;
+            }
+
+            best = page;
+        }
+
+        OggSeekPoint seekPoint = best != null ? best : first;
+
+        if (seekPoint == null) {
+            throw new IllegalStateException("No page to seek to was found.");
+        }
+
+        inputStream.seek(seekPoint.getPosition());
+        state = State.TRACK_SEEKING;
+
+        return seekPoint.getTimecode();
+    }
+
+    private OggSeekPoint findFirstPage(long from, long limit) throws IOException {
+        for (long position = from; position < limit; position += BISECTION_RANGE) {
+            for (OggSeekPoint page : readPages(position, BISECTION_RANGE + MAXIMUM_PAGE_SIZE)) {
+                if (page.getPosition() >= limit) {
+                    return null;
+                } else if (page.getGranulePosition() >= 0) {
+                    return page;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private List<OggSeekPoint> readPages(long position, int length) throws IOException {
+        inputStream.seek(position);
+
+        byte[] data = new byte[(int) Math.min(length, inputStream.getContentLength() - position)];
+        int dataLength = StreamTools.readUntilEnd(inputStream, data, 0, data.length);
+
+        return new OggPageScanner(position, data, dataLength).createSeekTable(bisectionSampleRate);
+    }
+
     public List<OggSeekPoint> createSeekTable(int sampleRate) throws IOException {
         if (!inputStream.canSeekHard()) {
             return null;
@@ -0,0 +1,93 @@
+package com.sedmelluq.discord.lavaplayer.container.ogg;
+
+/**
+ * CRC-32 checksum of OGG pages (polynomial 0x04C11DB7, not reflected, zero initial value, no final XOR). Processes
+ * eight bytes per step with the slicing-by-8 method.
+ */
+public class OggPageChecksum {
+    private static final int POLYNOMIAL = 0x04C11DB7;
+    private static final int CHECKSUM_OFFSET = 22;
+    private static final byte[] ZERO_CHECKSUM = new byte[4];
+    private static final int[][] TABLES = createTables();
+
+    /**
+     * @param data   Data of the page, starting with the capture pattern
+     * @param offset Offset of the page in the array
+     * @param length Length of the page including its header and segment table
+     * @return True if the checksum stored in the page header matches the contents of the page
+     */
+    public static boolean isValidPage(byte[] data, int offset, int length) {
+        int checksumPosition = offset + CHECKSUM_OFFSET;
+        int stored = (data[checksumPosition] & 0xFF) | (data[checksumPosition + 1] & 0xFF) << 8 |
+            (data[checksumPosition + 2] & 0xFF) << 16 | (data[checksumPosition + 3] & 0xFF) << 24;
+
+        // The checksum is calculated with the checksum field set to zero
+        int crc = update(0, data, offset, CHECKSUM_OFFSET);
+        crc = update(crc, ZERO_CHECKSUM, 0, 4);
+        crc = update(crc, data, checksumPosition + 4, length - CHECKSUM_OFFSET - 4);
+
+        return crc == stored;
+    }
+
+    /**
+     * @param crc    Checksum of the preceding data, 0 at the start
+     * @param data   Data to add to the checksum
+     * @param offset Offset of the data in the array
+     * @param length Length of the data
+     * @return Checksum including the specified data
+     */
+    public static int update(int crc, byte[] data, int offset, int length) {
+        int[] t0 = TABLES[0];
+        int[] t1 = TABLES[1];
+        int[] t2 = TABLES[2];
+        int[] t3 = TABLES[3];
+        int[] t4 = TABLES[4];
+        int[] t5 = TABLES[5];
+        int[] t6 = TABLES[6];
+        int[] t7 = TABLES[7];
+
+        int position = offset;
+        int end = offset + length;
+
+        while (end - position >= 8) {
+            int high = crc ^ ((data[position] & 0xFF) << 24 | (data[position + 1] & 0xFF) << 16 |
+                (data[position + 2] & 0xFF) << 8 | (data[position + 3] & 0xFF));
+            int low = (data[position + 4] & 0xFF) << 24 | (data[position + 5] & 0xFF) << 16 |
+                (data[position + 6] & 0xFF) << 8 | (data[position + 7] & 0xFF);
+
+            crc = t7[high >>> 24] ^ t6[(high >>> 16) & 0xFF] ^ t5[(high >>> 8) & 0xFF] ^ t4[high & 0xFF] ^
+                t3[low >>> 24] ^ t2[(low >>> 16) & 0xFF] ^ t1[(low >>> 8) & 0xFF] ^ t0[low & 0xFF];
+
+            position += 8;
+        }
+
+        while (position < end) {
+            crc = (crc << 8) ^ t0[((crc >>> 24) ^ data[position++]) & 0xFF];
+        }
+
+        return crc;
+    }
+
+    private static int[][] createTables() {
+        int[][] tables = new int[8][256];
+
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 24;
+
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc << 1) ^ (crc < 0 ? POLYNOMIAL : 0);
+            }
+
+            tables[0][i] = crc;
+        }
+
+        for (int table = 1; table < 8; table++) {
+            for (int i = 0; i < 256; i++) {
+                int previous = tables[table - 1][i];
+                tables[table][i] = (previous << 8) ^ tables[0][previous >>> 24];
+            }
+        }
+
+        return tables;
+    }
+}
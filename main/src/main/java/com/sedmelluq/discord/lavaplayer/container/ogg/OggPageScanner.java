@@ -5,10 +5,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Scanner for determining OGG stream information by seeking around in it.
+ * Scanner for determining OGG stream information by seeking around in it. The capture pattern is searched for eight
+ * bytes at a time. A page found by searching is only accepted if its checksum is valid, as the pattern can also occur
+ * inside page data, while the pages directly following an accepted page are trusted.
  */
 public class OggPageScanner {
     private static final int OGG_PAGE_HEADER_INT = ByteBuffer.wrap(new byte[]{0x4F, 0x67, 0x67, 0x53}).getInt(0);
+    private static final long FIRST_BYTE_PATTERN = 0x4F4F4F4F4F4F4F4FL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
 
     private final long absoluteOffset;
     private final byte[] data;
@@ -39,24 +44,23 @@ public class OggPageScanner {
      */
     public OggStreamSizeInfo scanForSizeInfo(long firstPageOffset, int sampleRate) {
         ByteBuffer buffer = ByteBuffer.wrap(data, 0, dataLength);
-        int head = buffer.getInt(0);
-
-        for (int i = 0; i < dataLength - 27; i++) {
-            if (head == OGG_PAGE_HEADER_INT) {
-                buffer.position(i);
-
-                if (attemptReadHeader(buffer)) {
-                    do {
-                        if ((flags & OggPageHeader.FLAG_LAST_PAGE) != 0) {
-                            return new OggStreamSizeInfo((byteStreamPosition - firstPageOffset) + pageSize,
-                                Long.reverseBytes(reversedPosition), firstPageOffset, byteStreamPosition, sampleRate);
-                        }
-                    } while (attemptReadHeader(buffer));
-                }
+        int start = 0;
+
+        while ((start = findCapturePattern(buffer, start)) >= 0) {
+            buffer.position(start);
+
+            if (attemptReadHeader(buffer, true)) {
+                do {
+                    if ((flags & OggPageHeader.FLAG_LAST_PAGE) != 0) {
+                        return new OggStreamSizeInfo((byteStreamPosition - firstPageOffset) + pageSize,
+                            Long.reverseBytes(reversedPosition), firstPageOffset, byteStreamPosition, sampleRate);
+                    }
+                } while (attemptReadHeader(buffer, false));
+
+                start = buffer.position();
+            } else {
+                start++;
             }
-
-            head <<= 8;
-            head |= data[i + 4] & 0xFF;
         }
 
         return null;
@@ -72,29 +76,65 @@ public class OggPageScanner {
         List<OggSeekPoint> seekPoints = new ArrayList<>();
 
         ByteBuffer buffer = ByteBuffer.wrap(data, 0, dataLength);
-        int head = buffer.getInt(0);
-
-        for (int i = 0; i < dataLength - 27; i++) {
-            if (head == OGG_PAGE_HEADER_INT) {
-                buffer.position(i);
-
-                if (attemptReadHeader(buffer)) {
-                    long position = byteStreamPosition;
-                    long granulePosition = Long.reverseBytes(reversedPosition);
-                    long timecode = granulePosition / (sampleRate / 1000);
-                    pageSequence++;
-                    seekPoints.add(new OggSeekPoint(position, granulePosition, timecode, pageSequence));
+        int start = 0;
+        int nextPageStart = -1;
+
+        while ((start = findCapturePattern(buffer, start)) >= 0) {
+            buffer.position(start);
+
+            if (attemptReadHeader(buffer, start != nextPageStart)) {
+                long position = byteStreamPosition;
+                long granulePosition = Long.reverseBytes(reversedPosition);
+                long timecode = granulePosition / (sampleRate / 1000);
+                pageSequence++;
+                seekPoints.add(new OggSeekPoint(position, granulePosition, timecode, pageSequence));
+
+                start = nextPageStart = buffer.position();
+            } else {
+                start++;
+            }
+        }
+
+        return seekPoints;
+    }
+
+    private int findCapturePattern(ByteBuffer buffer, int from) {
+        int limit = dataLength - 27;
+        int position = from;
+
+        // Find bytes equal to the first byte of the pattern in eight bytes at once: such bytes become zero after XOR, and
+        // subtracting one from each byte sets the high bit of zero bytes. Other high bits may be set only above a zero
+        // byte, those candidates are rejected by the full comparison.
+        while (position < limit && position + 8 <= dataLength) {
+            long word = buffer.getLong(position) ^ FIRST_BYTE_PATTERN;
+            long candidates = (word - LOW_BITS) & ~word & HIGH_BITS;
+
+            while (candidates != 0) {
+                int leadingZeros = Long.numberOfLeadingZeros(candidates);
+                int candidate = position + (leadingZeros >>> 3);
+
+                if (candidate >= limit) {
+                    return -1;
+                } else if (buffer.getInt(candidate) == OGG_PAGE_HEADER_INT) {
+                    return candidate;
                 }
+
+                candidates &= ~(Long.MIN_VALUE >>> leadingZeros);
             }
 
-            head <<= 8;
-            head |= data[i + 4] & 0xFF;
+            position += 8;
         }
 
-        return seekPoints;
+        for (; position < limit; position++) {
+            if (buffer.getInt(position) == OGG_PAGE_HEADER_INT) {
+                return position;
+            }
+        }
+
+        return -1;
     }
 
-    private boolean attemptReadHeader(ByteBuffer buffer) {
+    private boolean attemptReadHeader(ByteBuffer buffer, boolean verifyChecksum) {
         int start = buffer.position();
 
         if (buffer.limit() < start + 27) {
@@ -120,12 +160,14 @@ public class OggPageScanner {
 
         if (buffer.limit() < minimumCapacity) {
             return false;
+        } else if (verifyChecksum && !OggPageChecksum.isValidPage(data, start, minimumCapacity - start)) {
+            return false;
         }
 
         flags = buffer.get(start + 5) & 0xFF;
         reversedPosition = buffer.getLong(start + 6);
         byteStreamPosition = absoluteOffset + start;
-        pageSize = minimumCapacity;
+        pageSize = minimumCapacity - start;
 
         buffer.position(minimumCapacity);
         return true;
@@ -32,7 +32,7 @@ public class OggFlacCodecHandler implements OggCodecHandler {
     @Override
     public OggTrackBlueprint loadBlueprint(OggPacketInputStream stream, DirectBufferStreamBroker broker) throws IOException {
         FlacTrackInfo info = load(stream, broker);
-        stream.setSeekPoints(stream.createSeekTable(info.stream.sampleRate));
+        stream.enableBisectionSeek(info.stream.sampleRate);
         return new Blueprint(info);
     }
 
@@ -50,7 +50,7 @@ public class OggOpusCodecHandler implements OggCodecHandler {
 
         Map<String, String> tags = parseTags(broker.getBuffer(), broker.isTruncated());
 
-        stream.setSeekPoints(stream.createSeekTable(OPUS_GRANULE_SAMPLE_RATE));
+        stream.enableBisectionSeek(OPUS_GRANULE_SAMPLE_RATE);
         return new Blueprint(broker, channelCount, sampleRate, tags, headerGain);
     }
 
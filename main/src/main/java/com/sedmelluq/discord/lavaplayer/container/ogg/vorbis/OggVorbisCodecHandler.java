@@ -8,7 +8,6 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 @SuppressWarnings("unused")
@@ -54,9 +53,7 @@ public class OggVorbisCodecHandler implements OggCodecHandler {
 
         ByteBuffer infoBuffer = ByteBuffer.wrap(infoPacket);
         int sampleRate = Integer.reverseBytes(infoBuffer.getInt(12));
-        List<OggSeekPoint> seekPointList = stream.createSeekTable(sampleRate);
-        if (seekPointList != null)
-            stream.setSeekPoints(seekPointList);
+        stream.enableBisectionSeek(sampleRate);
         return new Blueprint(sampleRate, infoPacket, broker, tags);
     }
 
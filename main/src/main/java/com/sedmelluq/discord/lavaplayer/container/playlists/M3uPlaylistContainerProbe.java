@@ -19,6 +19,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.refer;
@@ -49,6 +51,11 @@ public class M3uPlaylistContainerProbe implements MediaContainerProbe {
         return "m3u";
     }
 
+    @Override
+    public List<int[]> getSignatures() {
+        return Arrays.asList(M3U_HEADER_TAG, M3U_ENTRY_TAG);
+    }
+
     @Override
     public boolean matchesHints(MediaContainerHints hints) {
         return false;
@@ -13,7 +13,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -39,6 +41,11 @@ public final class PlsPlaylistContainerProbe implements MediaContainerProbe {
         return "pls";
     }
 
+    @Override
+    public List<int[]> getSignatures() {
+        return Collections.singletonList(PLS_HEADER);
+    }
+
     @Override
     public boolean matchesHints(MediaContainerHints hints) {
         return false;
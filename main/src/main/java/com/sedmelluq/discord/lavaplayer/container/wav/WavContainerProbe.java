@@ -11,6 +11,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.UNKNOWN_ARTIST;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.UNKNOWN_TITLE;
@@ -30,6 +32,11 @@ public class WavContainerProbe implements MediaContainerProbe {
         return "wav";
     }
 
+    @Override
+    public List<int[]> getSignatures() {
+        return Collections.singletonList(WAV_RIFF_HEADER);
+    }
+
     @Override
     public boolean matchesHints(MediaContainerHints hints) {
         return false;
@@ -1,6 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.format.transcoder;
 
 import java.nio.ShortBuffer;
+import java.util.Arrays;
 
 /**
  * Decodes one chunk of audio into internal PCM format.
@@ -12,6 +13,16 @@ public interface AudioChunkDecoder {
      */
     void decode(byte[] encoded, ShortBuffer buffer);
 
+    /**
+     * @param encoded Array containing the encoded bytes
+     * @param offset  Offset of the encoded bytes in the array
+     * @param length  Number of encoded bytes
+     * @param buffer  Output buffer for the PCM data
+     */
+    default void decode(byte[] encoded, int offset, int length, ShortBuffer buffer) {
+        decode(Arrays.copyOfRange(encoded, offset, offset + length), buffer);
+    }
+
     /**
      * Frees up all held resources.
      */
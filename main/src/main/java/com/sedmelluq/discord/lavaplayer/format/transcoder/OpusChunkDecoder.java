@@ -23,8 +23,13 @@ public class OpusChunkDecoder implements AudioChunkDecoder {
 
     @Override
     public void decode(byte[] encoded, ShortBuffer buffer) {
+        decode(encoded, 0, encoded.length, buffer);
+    }
+
+    @Override
+    public void decode(byte[] encoded, int offset, int length, ShortBuffer buffer) {
         encodedBuffer.clear();
-        encodedBuffer.put(encoded);
+        encodedBuffer.put(encoded, offset, length);
         encodedBuffer.flip();
 
         buffer.clear();
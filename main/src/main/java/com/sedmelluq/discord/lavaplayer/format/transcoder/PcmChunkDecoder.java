@@ -25,10 +25,15 @@ public class PcmChunkDecoder implements AudioChunkDecoder {
 
     @Override
     public void decode(byte[] encoded, ShortBuffer buffer) {
+        decode(encoded, 0, encoded.length, buffer);
+    }
+
+    @Override
+    public void decode(byte[] encoded, int offset, int length, ShortBuffer buffer) {
         buffer.clear();
 
         encodedAsByte.clear();
-        encodedAsByte.put(encoded);
+        encodedAsByte.put(encoded, offset, length);
 
         encodedAsShort.clear();
         encodedAsShort.limit(encodedAsByte.position() / 2);
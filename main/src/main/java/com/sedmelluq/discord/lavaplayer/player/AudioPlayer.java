@@ -26,6 +26,23 @@ public interface AudioPlayer extends AudioFrameProvider {
      */
     boolean startTrack(AudioTrack track, boolean noInterrupt);
 
+    /**
+     * Start loading and buffering a track in the background, so that it starts without a delay when it is later passed
+     * to {@link #startTrack(AudioTrack, boolean)} or {@link #playTrack(AudioTrack)}. Only one track can be prepared at
+     * a time, preparing another one discards the previous one, after which it cannot be played.
+     * <p>
+     * A prepared track runs on a playback thread like a playing one. Once its frame buffer is full, that thread stays
+     * blocked until the track is started or discarded, so each prepared track occupies one thread from the playback
+     * pool while it waits. Prepare a track only shortly before it is needed, and discard it if it will not be played.
+     * <p>
+     * The default implementation does not prepare anything, the track is then loaded when it is started.
+     *
+     * @param track The track to prepare, passing null discards the currently prepared track
+     */
+    default void prepareTrack(AudioTrack track) {
+        // Players which do not support preparing simply load the track when it is started
+    }
+
     /**
      * Stop currently playing track.
      */
@@ -39,6 +56,19 @@ public interface AudioPlayer extends AudioFrameProvider {
 
     void setFrameBufferDuration(Integer duration);
 
+    /**
+     * Set the duration of the crossfade between the outgoing and the incoming track when a track is started while another
+     * one is playing. The overlap is limited by the amount of audio the outgoing track has buffered. To crossfade into
+     * the next track of a queue, start it before the current one ends, for example from a track marker.
+     *
+     * The default implementation ignores this setting, so tracks are never crossfaded.
+     *
+     * @param duration Crossfade duration in milliseconds, zero to disable crossfading
+     */
+    default void setCrossfadeDuration(int duration) {
+        // Only supported by players which mix the outgoing track into the incoming one
+    }
+
     /**
      * @return Whether the player is paused
      */
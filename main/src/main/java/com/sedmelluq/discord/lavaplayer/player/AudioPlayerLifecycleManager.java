@@ -4,66 +4,121 @@ import com.sedmelluq.discord.lavaplayer.player.event.AudioEvent;
 import com.sedmelluq.discord.lavaplayer.player.event.AudioEventListener;
 import com.sedmelluq.discord.lavaplayer.player.event.TrackEndEvent;
 import com.sedmelluq.discord.lavaplayer.player.event.TrackStartEvent;
+import com.sedmelluq.discord.lavaplayer.tools.HierarchicalTimerWheel;
+import com.sedmelluq.discord.lavaplayer.tools.HierarchicalTimerWheel.Timeout;
 
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Triggers cleanup checks on all active audio players at a fixed interval.
+ * Triggers cleanup checks on active audio players. Each player has a deadline on a timer wheel at the time it would
+ * become eligible for cleanup, so players are only checked when they may actually be due, instead of all of them being
+ * scanned at a fixed interval.
  */
 public class AudioPlayerLifecycleManager implements Runnable, AudioEventListener {
     private static final long CHECK_INTERVAL = 10000;
+    private static final long MINIMUM_CHECK_DELAY = 1000;
 
-    private final ConcurrentMap<AudioPlayer, AudioPlayer> activePlayers;
-    private final ScheduledExecutorService scheduler;
+    private final ConcurrentMap<AudioPlayer, Timeout> activePlayers;
+    private final HierarchicalTimerWheel timerWheel;
     private final AtomicLong cleanupThreshold;
-    private final AtomicReference<ScheduledFuture<?>> scheduledTask;
+    private final AtomicBoolean running;
 
     /**
-     * @param scheduler        Scheduler to use for the cleanup check task
+     * @param timerWheel       Timer wheel to schedule the cleanup checks on
      * @param cleanupThreshold Threshold for player cleanup
      */
-    public AudioPlayerLifecycleManager(ScheduledExecutorService scheduler, AtomicLong cleanupThreshold) {
+    public AudioPlayerLifecycleManager(HierarchicalTimerWheel timerWheel, AtomicLong cleanupThreshold) {
         this.activePlayers = new ConcurrentHashMap<>();
-        this.scheduler = scheduler;
+        this.timerWheel = timerWheel;
         this.cleanupThreshold = cleanupThreshold;
-        this.scheduledTask = new AtomicReference<>();
+        this.running = new AtomicBoolean();
     }
 
     /**
-     * Initialise the scheduled task.
+     * Start scheduling cleanup checks.
      */
     public void initialise() {
-        ScheduledFuture<?> task = scheduler.scheduleAtFixedRate(this, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
-        if (!scheduledTask.compareAndSet(null, task)) {
-            task.cancel(false);
-        }
+        running.set(true);
     }
 
     /**
-     * Stop the scheduled task.
+     * Stop scheduling cleanup checks and cancel the scheduled ones.
      */
     public void shutdown() {
-        ScheduledFuture<?> task = scheduledTask.getAndSet(null);
-        if (task != null) {
-            task.cancel(false);
+        running.set(false);
+
+        for (AudioPlayer player : activePlayers.keySet()) {
+            Timeout timeout = activePlayers.remove(player);
+
+            if (timeout != null) {
+                timeout.cancel();
+            }
         }
     }
 
     @Override
     public void onEvent(AudioEvent event) {
         if (event instanceof TrackStartEvent) {
-            activePlayers.put(event.player, event.player);
+            activePlayers.compute(event.player, (player, previous) -> {
+                if (previous != null) {
+                    previous.cancel();
+                }
+
+                return scheduleCheck(player);
+            });
         } else if (event instanceof TrackEndEvent) {
-            activePlayers.remove(event.player);
+            Timeout timeout = activePlayers.remove(event.player);
+
+            if (timeout != null) {
+                timeout.cancel();
+            }
         }
     }
 
+    /**
+     * Check all active players right away.
+     */
     @Override
     public void run() {
         for (AudioPlayer player : activePlayers.keySet()) {
             player.checkCleanup(cleanupThreshold.get());
         }
     }
+
+    private Timeout scheduleCheck(AudioPlayer player) {
+        if (!running.get()) {
+            return null;
+        }
+
+        long deadline;
+
+        if (player instanceof DefaultAudioPlayer) {
+            deadline = ((DefaultAudioPlayer) player).getLastRequestTime() + cleanupThreshold.get();
+        } else {
+            deadline = System.currentTimeMillis() + Math.min(CHECK_INTERVAL, cleanupThreshold.get());
+        }
+
+        deadline = Math.max(deadline, System.currentTimeMillis() + MINIMUM_CHECK_DELAY);
+
+        // The deadline is at least a second away, so the reference is always set by the time the check runs
+        AtomicReference<Timeout> timeout = new AtomicReference<>();
+        timeout.set(timerWheel.schedule(deadline, () -> check(player, timeout.get())));
+        return timeout.get();
+    }
+
+    private void check(AudioPlayer player, Timeout fired) {
+        // A start event may have replaced this check with a new one, which then owns the player
+        if (activePlayers.get(player) != fired) {
+            return;
+        }
+
+        player.checkCleanup(cleanupThreshold.get());
+
+        // If the check stopped the player, its end event has already removed it unless events are asynchronous
+        activePlayers.computeIfPresent(player, (key, current) -> current == fired ? scheduleCheck(key) : current);
+    }
 }
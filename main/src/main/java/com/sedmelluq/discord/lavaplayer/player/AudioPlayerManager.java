@@ -7,11 +7,24 @@ import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.DecodedTrackHolder;
+import com.sedmelluq.discord.lavaplayer.track.encoding.BinaryTrackCodec;
+import com.sedmelluq.discord.lavaplayer.track.encoding.EncodedTrack;
+import com.sedmelluq.discord.lavaplayer.track.encoding.TrackBatchCodec;
+import com.sedmelluq.discord.lavaplayer.track.encoding.TrackBatchReader;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
@@ -187,6 +200,118 @@ public interface AudioPlayerManager {
      */
     DecodedTrackHolder decodeTrack(MessageInput stream) throws IOException;
 
+    /**
+     * Encode a track directly into a buffer using the compact track layout. The framing is the same as with
+     * {@link #encodeTrack(MessageOutput, AudioTrack)}, so the result can also be read with
+     * {@link #decodeTrack(MessageInput)}. Calling this repeatedly with the same buffer serialises a whole queue in one
+     * pass without intermediate streams or arrays. An end marker can be written with
+     * {@link com.sedmelluq.discord.lavaplayer.track.encoding.BinaryTrackCodec#finish(ByteBuffer)}.
+     * <p>
+     * The default implementation writes the message of {@link #encodeTrack(MessageOutput, AudioTrack)} to the buffer.
+     *
+     * @param buffer The buffer to write to, starting from its current position.
+     * @param track  The track to encode.
+     * @throws IOException On error from the source manager of the track.
+     * @throws java.nio.BufferOverflowException If the buffer does not have enough space. The position of the buffer is
+     *                                          left where it was before the call.
+     */
+    default void encodeTrack(ByteBuffer buffer, AudioTrack track) throws IOException {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        encodeTrack(new MessageOutput(message), track);
+
+        if (buffer.remaining() < message.size()) {
+            throw new BufferOverflowException();
+        }
+
+        buffer.put(message.toByteArray());
+    }
+
+    /**
+     * Read the next encoded track from a buffer without decoding its fields. Supports tracks written by both
+     * {@link #encodeTrack(ByteBuffer, AudioTrack)} and {@link #encodeTrack(MessageOutput, AudioTrack)}.
+     *
+     * @param buffer The buffer to read from, its position is advanced past the track.
+     * @return View of the encoded track which decodes fields on access, or null if an end marker was reached.
+     * @throws IOException If the buffer does not contain a complete message or the version of the track is unknown.
+     */
+    default EncodedTrack readEncodedTrack(ByteBuffer buffer) throws IOException {
+        return BinaryTrackCodec.read(buffer);
+    }
+
+    /**
+     * Decode a track from a view returned by {@link #readEncodedTrack(ByteBuffer)}. The default implementation passes
+     * the message of the track to {@link #decodeTrack(MessageInput)}.
+     *
+     * @param encodedTrack The encoded track.
+     * @return Holder containing the track if it was successfully decoded.
+     * @throws IOException On read error.
+     */
+    default DecodedTrackHolder decodeTrack(EncodedTrack encodedTrack) throws IOException {
+        ByteBuffer payload = encodedTrack.getPayload();
+        ByteArrayOutputStream message = new ByteArrayOutputStream(payload.remaining() + 4);
+        DataOutputStream output = new DataOutputStream(message);
+
+        output.writeInt(payload.remaining() | encodedTrack.getMessageFlags() << 30);
+
+        while (payload.hasRemaining()) {
+            output.write(payload.get());
+        }
+
+        return decodeTrack(new MessageInput(new ByteArrayInputStream(message.toByteArray())));
+    }
+
+    /**
+     * Decode the next track from a buffer. Null return value indicates reaching an end marker.
+     *
+     * @param buffer The buffer to read from, its position is advanced past the track.
+     * @return Holder containing the track if it was successfully decoded.
+     * @throws IOException On read error.
+     */
+    default DecodedTrackHolder decodeTrack(ByteBuffer buffer) throws IOException {
+        EncodedTrack encodedTrack = readEncodedTrack(buffer);
+        return encodedTrack != null ? decodeTrack(encodedTrack) : null;
+    }
+
+    /**
+     * Encode a batch of tracks, for example a whole queue, into a stream. Strings which repeat between the tracks are only
+     * written once, so this is considerably more compact than encoding the tracks one by one. The batch only depends on
+     * the source managers of the tracks, so the default implementation works for any manager.
+     *
+     * @param stream The stream to write the batch to.
+     * @param tracks The tracks to encode.
+     * @throws IOException On IO error.
+     */
+    default void encodeTracks(OutputStream stream, Collection<AudioTrack> tracks) throws IOException {
+        TrackBatchCodec.encode(stream, tracks);
+    }
+
+    /**
+     * Decode all tracks of a batch written by {@link #encodeTracks(OutputStream, Collection)}.
+     *
+     * @param stream The stream to read the batch from.
+     * @return Holders for the tracks in the order they were encoded in.
+     * @throws IOException On IO error.
+     */
+    default List<DecodedTrackHolder> decodeTracks(InputStream stream) throws IOException {
+        try {
+            return iterateTracks(stream).readRemaining();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Start decoding a batch written by {@link #encodeTracks(OutputStream, Collection)} one track at a time. Tracks are
+     * read from the stream only as the returned iterator is advanced.
+     *
+     * @param stream The stream to read the batch from.
+     * @return Iterator over the tracks of the batch.
+     * @throws IOException On IO error while reading the start of the batch.
+     */
+    default TrackBatchReader iterateTracks(InputStream stream) throws IOException {
+        return new TrackBatchReader(this, stream);
+    }
+
     /**
      * @return Audio processing configuration used for tracks executed by this manager.
      */
@@ -205,6 +330,18 @@ public interface AudioPlayerManager {
      */
     void setUseSeekGhosting(boolean useSeekGhosting);
 
+    /**
+     * When enabled, player events are delivered to listeners on a shared event thread pool instead of the thread which
+     * caused the event, such as the thread providing frames or a track playback thread. Events of one player are still
+     * delivered in order and by one thread at a time, but a slow listener delays only the events of its own player.
+     * The default implementation ignores this setting, so events are always delivered synchronously.
+     *
+     * @param asyncEventDispatch Whether to deliver events asynchronously
+     */
+    default void setUseAsyncEventDispatch(boolean asyncEventDispatch) {
+        // Only supported by managers which have an event thread pool
+    }
+
     /**
      * @return The length of the internal buffer for audio in milliseconds.
      */
@@ -243,6 +380,15 @@ public interface AudioPlayerManager {
      */
     AudioPlayer createPlayer();
 
+    /**
+     * @return New player which plays any number of tracks at the same time and mixes them into one stream.
+     * @throws UnsupportedOperationException If this manager does not support mixing players, which is the case for the
+     *                                       default implementation.
+     */
+    default MixingAudioPlayer createMixingPlayer() {
+        throw new UnsupportedOperationException("Mixing players are not supported by this manager.");
+    }
+
     /**
      * @param configurator Function used to reconfigure the request config of all sources which perform HTTP requests.
      *                     Applied to all current and future registered sources. Setting this while sources are already in
@@ -15,9 +15,13 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.sedmelluq.discord.lavaplayer.track.AudioTrackEndReason.*;
 
@@ -32,22 +36,40 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     private volatile long lastReceiveTime;
     private volatile boolean stuckEventSent;
     private volatile InternalAudioTrack shadowTrack;
+    private PreparedTrack preparedTrack;
+    private volatile int crossfadeDuration;
+    private volatile AudioTrackExecutor fadingExecutor;
+    private TrackCrossfader crossfader;
     private final AtomicBoolean paused;
     private final DefaultAudioPlayerManager manager;
     private final List<AudioEventListener> listeners;
     private final Object trackSwitchLock;
     private final AudioPlayerOptions options;
+    private final AudioConfiguration configuration;
+    private final Queue<AudioEvent> pendingEvents;
+    private final AtomicInteger pendingEventCount;
 
     /**
      * @param manager Audio player manager which this player is attached to
      */
     public DefaultAudioPlayer(DefaultAudioPlayerManager manager) {
+        this(manager, null);
+    }
+
+    /**
+     * @param manager       Audio player manager which this player is attached to
+     * @param configuration Configuration to play tracks with, null to use the configuration of the manager
+     */
+    DefaultAudioPlayer(DefaultAudioPlayerManager manager, AudioConfiguration configuration) {
         this.manager = manager;
+        this.configuration = configuration;
         activeTrack = null;
         paused = new AtomicBoolean();
         listeners = new ArrayList<>();
         trackSwitchLock = new Object();
         options = new AudioPlayerOptions();
+        pendingEvents = new ConcurrentLinkedQueue<>();
+        pendingEventCount = new AtomicInteger();
     }
 
     /**
@@ -72,6 +94,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     public boolean startTrack(AudioTrack track, boolean noInterrupt) {
         InternalAudioTrack newTrack = (InternalAudioTrack) track;
         InternalAudioTrack previousTrack;
+        PreparedTrack prepared = null;
 
         synchronized (trackSwitchLock) {
             previousTrack = activeTrack;
@@ -86,9 +109,17 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
             stuckEventSent = false;
 
             if (previousTrack != null) {
+                // The executor keeps its buffered frames after it is stopped, those are what the crossfade mixes
+                fadingExecutor = newTrack != null && crossfadeDuration > 0 ? previousTrack.getActiveExecutor() : null;
+
                 previousTrack.stop();
                 shadowTrack = previousTrack;
             }
+
+            if (newTrack != null && preparedTrack != null && preparedTrack.getTrack() == newTrack) {
+                prepared = preparedTrack;
+                preparedTrack = null;
+            }
         }
 
         if (previousTrack != null) {
@@ -102,10 +133,44 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
 
         dispatchEvent(new TrackStartEvent(this, newTrack));
 
-        manager.executeTrack(this, newTrack, manager.getConfiguration(), options);
+        if (prepared != null) {
+            prepared.attach(this);
+        } else {
+            manager.executeTrack(this, newTrack, getConfiguration(), options);
+        }
+
         return true;
     }
 
+    /**
+     * @param track The track to prepare, passing null discards the currently prepared track
+     */
+    public void prepareTrack(AudioTrack track) {
+        InternalAudioTrack newTrack = (InternalAudioTrack) track;
+        PreparedTrack prepared = newTrack != null ? new PreparedTrack(newTrack) : null;
+        PreparedTrack previous;
+
+        synchronized (trackSwitchLock) {
+            previous = preparedTrack;
+
+            if (previous != null && previous.getTrack() == newTrack) {
+                return;
+            }
+
+            preparedTrack = prepared;
+        }
+
+        if (previous != null) {
+            previous.getTrack().stop();
+        }
+
+        if (prepared != null) {
+            // The executor starts filling its frame buffer right away and blocks once it is full. Decoding state lives
+            // on the stack of the playback thread, so the thread stays with the track until it is started or discarded.
+            manager.executeTrack(prepared, newTrack, getConfiguration(), options);
+        }
+    }
+
     /**
      * Stop currently playing track.
      */
@@ -120,6 +185,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         synchronized (trackSwitchLock) {
             previousTrack = activeTrack;
             activeTrack = null;
+            fadingExecutor = null;
 
             if (previousTrack != null) {
                 previousTrack.stop();
@@ -164,6 +230,107 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         return false;
     }
 
+    private TrackCrossfader prepareCrossfader(AudioFrame incoming) {
+        AudioTrackExecutor fading = fadingExecutor;
+
+        if (crossfader != null && crossfader.getOutgoing() != fading) {
+            crossfader.close();
+            crossfader = null;
+        }
+
+        if (fading == null) {
+            return null;
+        } else if (crossfader == null) {
+            try {
+                crossfader = new TrackCrossfader(fading, getConfiguration(), incoming.getFormat(),
+                    crossfadeDuration);
+            } catch (RuntimeException e) {
+                log.warn("Could not set up crossfade, switching tracks without it.", e);
+                finishCrossfade(fading);
+                return null;
+            }
+        }
+
+        if (crossfader.fetchOutgoing(incoming.getFormat())) {
+            return crossfader;
+        }
+
+        finishCrossfade(fading);
+        return null;
+    }
+
+    private void finishCrossfade(AudioFrameProvider fading) {
+        synchronized (trackSwitchLock) {
+            if (fadingExecutor == fading) {
+                fadingExecutor = null;
+            }
+        }
+
+        if (crossfader != null) {
+            crossfader.close();
+            crossfader = null;
+        }
+    }
+
+    private AudioFrame applyCrossfade(AudioFrame incoming) {
+        TrackCrossfader fader = prepareCrossfader(incoming);
+
+        if (fader == null) {
+            return incoming;
+        }
+
+        AudioFrame mixed = fader.mix(incoming);
+
+        if (fader.isFinished()) {
+            finishCrossfade(fader.getOutgoing());
+        }
+
+        return mixed;
+    }
+
+    private void applyCrossfade(MutableAudioFrame targetFrame) {
+        TrackCrossfader fader = prepareCrossfader(targetFrame);
+
+        if (fader != null) {
+            fader.mix(targetFrame);
+
+            if (fader.isFinished()) {
+                finishCrossfade(fader.getOutgoing());
+            }
+        }
+    }
+
+    private AudioFrame provideFadingFrame() {
+        AudioTrackExecutor fading = fadingExecutor;
+
+        // Until the incoming track has audio, keep playing the outgoing one so the crossfade starts from where it was
+        if (fading != null) {
+            AudioFrame frame = fading.provide();
+
+            if (frame != null && !frame.isTerminator()) {
+                return frame;
+            }
+
+            finishCrossfade(fading);
+        }
+
+        return provideShadowFrame();
+    }
+
+    private boolean provideFadingFrame(MutableAudioFrame targetFrame) {
+        AudioTrackExecutor fading = fadingExecutor;
+
+        if (fading != null) {
+            if (fading.provide(targetFrame) && !targetFrame.isTerminator()) {
+                return true;
+            }
+
+            finishCrossfade(fading);
+        }
+
+        return provideShadowFrame(targetFrame);
+    }
+
     @Override
     public AudioFrame provide() {
         return AudioFrameProviderTools.delegateToTimedProvide(this);
@@ -190,10 +357,12 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
                     handleTerminator(track);
                     continue;
                 }
+
+                frame = applyCrossfade(frame);
             } else if (timeout == 0) {
                 checkStuck(track);
 
-                frame = provideShadowFrame();
+                frame = provideFadingFrame();
             }
 
             return frame;
@@ -234,10 +403,11 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
                     continue;
                 }
 
+                applyCrossfade(targetFrame);
                 return true;
             } else if (timeout == 0) {
                 checkStuck(track);
-                return provideShadowFrame(targetFrame);
+                return provideFadingFrame(targetFrame);
             } else {
                 return false;
             }
@@ -305,6 +475,17 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         options.filterFactory.set(factory);
     }
 
+    private AudioConfiguration getConfiguration() {
+        return configuration != null ? configuration : manager.getConfiguration();
+    }
+
+    /**
+     * @param duration Crossfade duration in milliseconds, zero to disable crossfading
+     */
+    public void setCrossfadeDuration(int duration) {
+        crossfadeDuration = Math.max(0, duration);
+    }
+
     public void setFrameBufferDuration(Integer duration) {
         if (duration != null) {
             duration = Math.max(200, duration);
@@ -338,6 +519,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
      * Destroy the player and stop playing track.
      */
     public void destroy() {
+        prepareTrack(null);
         stopTrack();
     }
 
@@ -368,6 +550,31 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     }
 
     private void dispatchEvent(AudioEvent event) {
+        if (!manager.isUsingAsyncEventDispatch()) {
+            deliverEvent(event);
+            return;
+        }
+
+        pendingEvents.add(event);
+
+        // Only the caller which finds the queue empty schedules a drain, the drain delivers all events queued until then
+        if (pendingEventCount.getAndIncrement() == 0) {
+            try {
+                manager.getEventExecutor().execute(this::deliverPendingEvents);
+            } catch (RejectedExecutionException e) {
+                log.debug("Event executor rejected the delivery, delivering events on the current thread.");
+                deliverPendingEvents();
+            }
+        }
+    }
+
+    private void deliverPendingEvents() {
+        do {
+            deliverEvent(pendingEvents.poll());
+        } while (pendingEventCount.decrementAndGet() > 0);
+    }
+
+    private void deliverEvent(AudioEvent event) {
         log.debug("Firing an event with class {}", event.getClass().getSimpleName());
 
         List<AudioEventListener> listenersCopy;
@@ -394,6 +601,13 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         dispatchEvent(new TrackStuckEvent(this, track, thresholdMs, null));
     }
 
+    /**
+     * @return Time in milliseconds when frames were last requested from this player
+     */
+    long getLastRequestTime() {
+        return lastRequestTime;
+    }
+
     /**
      * Check if the player should be "cleaned up" - stopped due to nothing using it, with the given threshold.
      *
@@ -405,6 +619,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
             log.debug("Triggering cleanup on an audio player playing track {}", track);
 
             stopWithReason(CLEANUP);
+            prepareTrack(null);
         }
     }
 }
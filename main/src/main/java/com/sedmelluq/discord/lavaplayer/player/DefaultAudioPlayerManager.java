@@ -1,12 +1,17 @@
 package com.sedmelluq.discord.lavaplayer.player;
 
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemLoadCache;
+import com.sedmelluq.discord.lavaplayer.player.cache.CachedTrackEntry;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.source.ProbingAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.*;
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteBufferDataInput;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageInput;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput;
 import com.sedmelluq.discord.lavaplayer.track.*;
+import com.sedmelluq.discord.lavaplayer.track.encoding.BinaryTrackCodec;
+import com.sedmelluq.discord.lavaplayer.track.encoding.EncodedTrack;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioTrackExecutor;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
 import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
@@ -18,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +48,8 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
     private static final int MAXIMUM_LOAD_REDIRECTS = 5;
     private static final int DEFAULT_LOADER_POOL_SIZE = 10;
     private static final int LOADER_QUEUE_CAPACITY = 5000;
+    private static final int DEFAULT_EVENT_POOL_SIZE = 20;
+    private static final long TIMER_WHEEL_TICK = 100;
 
     private static final Logger log = LoggerFactory.getLogger(DefaultAudioPlayerManager.class);
 
@@ -54,6 +62,7 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
     private final ThreadPoolExecutor trackInfoExecutorService;
     private final ScheduledExecutorService scheduledExecutorService;
     private final OrderedExecutor orderedInfoExecutor;
+    private final ThreadPoolExecutor eventExecutorService;
 
     // Configuration
     private volatile long trackStuckThreshold;
@@ -61,9 +70,12 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
     private final AtomicLong cleanupThreshold;
     private volatile int frameBufferDuration;
     private volatile boolean useSeekGhosting;
+    private volatile boolean asyncEventDispatch;
+    private volatile AudioItemLoadCache itemLoadCache;
 
     // Additional services
     private final GarbageCollectionMonitor garbageCollectionMonitor;
+    private final HierarchicalTimerWheel timerWheel;
     private final AudioPlayerLifecycleManager lifecycleManager;
 
 
@@ -81,6 +93,9 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
             TimeUnit.SECONDS.toMillis(30), LOADER_QUEUE_CAPACITY, new DaemonThreadFactory("info-loader"));
         scheduledExecutorService = Executors.newScheduledThreadPool(1, new DaemonThreadFactory("manager"));
         orderedInfoExecutor = new OrderedExecutor(trackInfoExecutorService);
+        // Each player has at most one drain task queued at a time, so the queue is bounded by the number of players
+        eventExecutorService = ExecutorTools.createEagerlyScalingExecutor(1, DEFAULT_EVENT_POOL_SIZE,
+            TimeUnit.SECONDS.toMillis(30), Integer.MAX_VALUE, new DaemonThreadFactory("event"));
 
         // Configuration
         trackStuckThreshold = TimeUnit.MILLISECONDS.toNanos(10000);
@@ -91,7 +106,10 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
 
         // Additional services
         garbageCollectionMonitor = new GarbageCollectionMonitor(scheduledExecutorService);
-        lifecycleManager = new AudioPlayerLifecycleManager(scheduledExecutorService, cleanupThreshold);
+        timerWheel = new HierarchicalTimerWheel(TIMER_WHEEL_TICK, System.currentTimeMillis());
+        scheduledExecutorService.scheduleAtFixedRate(() -> timerWheel.advance(System.currentTimeMillis()),
+            TIMER_WHEEL_TICK, TIMER_WHEEL_TICK, TimeUnit.MILLISECONDS);
+        lifecycleManager = new AudioPlayerLifecycleManager(timerWheel, cleanupThreshold);
         lifecycleManager.initialise();
     }
 
@@ -107,6 +125,7 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
         ExecutorTools.shutdownExecutor(trackPlaybackExecutorService, "track playback");
         ExecutorTools.shutdownExecutor(trackInfoExecutorService, "track info");
         ExecutorTools.shutdownExecutor(scheduledExecutorService, "scheduled operations");
+        ExecutorTools.shutdownExecutor(eventExecutorService, "event dispatch");
     }
 
     @Override
@@ -253,6 +272,18 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
 
         int version = (stream.getMessageFlags() & TRACK_INFO_VERSIONED) != 0 ? (input.readByte() & 0xFF) : 1;
 
+        if (!BinaryTrackCodec.isSupportedVersion(version)) {
+            stream.skipRemainingBytes();
+            throw new IOException("Unsupported track version " + version + ".");
+        } else if (version == BinaryTrackCodec.COMPACT_VERSION) {
+            byte[] payload = new byte[stream.getMessageSize()];
+            payload[0] = (byte) version;
+            input.readFully(payload, 1, payload.length - 1);
+            stream.skipRemainingBytes();
+
+            return decodeTrack(new EncodedTrack(ByteBuffer.wrap(payload), stream.getMessageFlags()));
+        }
+
         AudioTrackInfo trackInfo = new AudioTrackInfo(
             input.readUTF(),
             input.readUTF(),
@@ -276,6 +307,27 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
         return new DecodedTrackHolder(track);
     }
 
+    @Override
+    public void encodeTrack(ByteBuffer buffer, AudioTrack track) throws IOException {
+        BinaryTrackCodec.encode(buffer, track, this::encodeTrackDetails);
+    }
+
+    @Override
+    public EncodedTrack readEncodedTrack(ByteBuffer buffer) throws IOException {
+        return BinaryTrackCodec.read(buffer);
+    }
+
+    @Override
+    public DecodedTrackHolder decodeTrack(EncodedTrack encodedTrack) throws IOException {
+        AudioTrack track = decodeTrackDetails(encodedTrack.toTrackInfo(), new ByteBufferDataInput(encodedTrack.getDetails()));
+
+        if (track != null) {
+            track.setPosition(encodedTrack.getPosition());
+        }
+
+        return new DecodedTrackHolder(track);
+    }
+
     /**
      * Encodes an audio track to a byte array. Does not include AudioTrackInfo in the buffer.
      *
@@ -374,6 +426,29 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
         this.useSeekGhosting = useSeekGhosting;
     }
 
+    @Override
+    public void setUseAsyncEventDispatch(boolean asyncEventDispatch) {
+        this.asyncEventDispatch = asyncEventDispatch;
+    }
+
+    /**
+     * @return True if player events are delivered on the event thread pool.
+     */
+    public boolean isUsingAsyncEventDispatch() {
+        return asyncEventDispatch;
+    }
+
+    /**
+     * @param poolSize Maximum number of threads used for delivering player events.
+     */
+    public void setEventDispatchThreadPoolSize(int poolSize) {
+        eventExecutorService.setMaximumPoolSize(poolSize);
+    }
+
+    Executor getEventExecutor() {
+        return eventExecutorService;
+    }
+
     @Override
     public int getFrameBufferDuration() {
         return frameBufferDuration;
@@ -403,6 +478,22 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
         trackInfoExecutorService.setMaximumPoolSize(poolSize);
     }
 
+    /**
+     * @return The cache used for results of loading single tracks, null if caching is disabled.
+     */
+    public AudioItemLoadCache getItemLoadCache() {
+        return itemLoadCache;
+    }
+
+    /**
+     * @param itemLoadCache Cache to use for results of loading single tracks. When a track loaded by a source is found in
+     *                      the cache, it is decoded from the cached details instead of being loaded from the source
+     *                      again. Null disables caching.
+     */
+    public void setItemLoadCache(AudioItemLoadCache itemLoadCache) {
+        this.itemLoadCache = itemLoadCache;
+    }
+
     private void submitItemToResultHandler(AudioItem item, AudioLoadResultHandler handler, boolean[] reported) {
         if (item == null) {
             reported[0] = true;
@@ -441,13 +532,28 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
 
     @Nullable
     private AudioItem checkSourcesForItemOnce(AudioReference reference) {
+        AudioItemLoadCache cache = reference.containerDescriptor == null ? itemLoadCache : null;
+
         for (AudioSourceManager sourceManager : sourceManagers) {
             if (reference.containerDescriptor != null && !(sourceManager instanceof ProbingAudioSourceManager)) {
                 continue;
             }
 
+            if (cache != null) {
+                AudioTrack cachedTrack = loadCachedTrack(cache, sourceManager, reference.identifier);
+
+                if (cachedTrack != null) {
+                    log.debug("Loaded a track with identifier {} from cache of {}.", reference.identifier, sourceManager.getClass().getSimpleName());
+                    return cachedTrack;
+                }
+            }
+
             AudioItem item = sourceManager.loadItem(this, reference);
             if (item != null) {
+                if (cache != null && item instanceof AudioTrack) {
+                    storeCachedTrack(cache, sourceManager, reference.identifier, (AudioTrack) item);
+                }
+
                 if (item instanceof AudioTrack) {
                     log.debug("Loaded a track with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
                 } else if (item instanceof AudioPlaylist) {
@@ -461,6 +567,40 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
         return null;
     }
 
+    private AudioTrack loadCachedTrack(AudioItemLoadCache cache, AudioSourceManager sourceManager, String identifier) {
+        String sourceName = sourceManager.getSourceName();
+        CachedTrackEntry entry = cache.lookup(sourceName, identifier);
+
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            return decodeTrackDetails(AudioItemLoadCache.copyInfo(entry.trackInfo), entry.details);
+        } catch (Exception e) {
+            log.debug("Discarding cached entry for {} of source {} which failed to decode.", identifier, sourceName, e);
+            cache.invalidate(sourceName, identifier);
+            return null;
+        }
+    }
+
+    private void storeCachedTrack(AudioItemLoadCache cache, AudioSourceManager sourceManager, String identifier,
+                                  AudioTrack track) {
+
+        String sourceName = sourceManager.getSourceName();
+
+        if (track.getSourceManager() != sourceManager || !cache.isEnabledFor(sourceName) ||
+            !sourceManager.isTrackEncodable(track)) {
+            return;
+        }
+
+        try {
+            cache.store(sourceName, identifier, track.getInfo(), encodeTrackDetails(track));
+        } catch (Exception e) {
+            log.debug("Failed to cache track with identifier {} of source {}.", identifier, sourceName, e);
+        }
+    }
+
     public ExecutorService getExecutor() {
         return trackPlaybackExecutorService;
     }
@@ -477,6 +617,18 @@ public final class DefaultAudioPlayerManager implements AudioPlayerManager {
         return new DefaultAudioPlayer(this);
     }
 
+    @Override
+    public MixingAudioPlayer createMixingPlayer() {
+        return new MixingAudioPlayer(this);
+    }
+
+    AudioPlayer createInputPlayer(AudioConfiguration inputConfiguration) {
+        AudioPlayer player = new DefaultAudioPlayer(this, inputConfiguration);
+        player.addListener(lifecycleManager);
+
+        return player;
+    }
+
     @Override
     public void setHttpRequestConfigurator(Function<RequestConfig, RequestConfig> configurator) {
         this.httpConfigurator = configurator;
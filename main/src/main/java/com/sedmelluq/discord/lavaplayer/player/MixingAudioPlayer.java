@@ -0,0 +1,257 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.format.Pcm16AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkEncoder;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrame;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProvider;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProviderTools;
+import com.sedmelluq.discord.lavaplayer.track.playback.ImmutableAudioFrame;
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays any number of tracks at the same time and mixes them into one stream, for example to play sound effects over
+ * music. Each input is a separate audio player with its own track, volume, filters and events. Inputs produce PCM
+ * frames, which are summed and encoded only once into the output format. When the sum would clip, the mix is scaled
+ * down and the gain recovers gradually over the next frames.
+ * <p>
+ * Frames must be provided by a single thread at a time. The output format is taken from the configuration of the
+ * manager when this player is created.
+ */
+public class MixingAudioPlayer implements AudioFrameProvider {
+    private static final float LIMITER_RELEASE_PER_FRAME = 0.01f;
+
+    private final DefaultAudioPlayerManager manager;
+    private final AudioConfiguration inputConfiguration;
+    private final AudioDataFormat outputFormat;
+    private final AudioDataFormat busFormat;
+    private final Object inputLock;
+    private volatile List<AudioPlayer> inputs;
+    private final MutableAudioFrame inputFrame;
+    private final byte[] inputData;
+    private final int[] bus;
+    private final ShortBuffer mixedSamples;
+    private final ByteBuffer encoded;
+    private final Object encoderLock;
+    private AudioChunkEncoder encoder;
+    private boolean destroyed;
+    private float limiterGain;
+    private long frameCount;
+
+    /**
+     * @param manager Audio player manager which this player is attached to
+     */
+    public MixingAudioPlayer(DefaultAudioPlayerManager manager) {
+        this.manager = manager;
+        this.outputFormat = manager.getConfiguration().getOutputFormat();
+        this.busFormat = new Pcm16AudioDataFormat(outputFormat.channelCount, outputFormat.sampleRate,
+            outputFormat.chunkSampleCount, true);
+        this.inputConfiguration = manager.getConfiguration().copy();
+        this.inputConfiguration.setOutputFormat(busFormat);
+        this.inputLock = new Object();
+        this.inputs = Collections.emptyList();
+        this.inputFrame = new MutableAudioFrame(ByteBuffer.allocate(busFormat.maximumChunkSize()));
+        this.inputData = new byte[busFormat.maximumChunkSize()];
+        this.bus = new int[busFormat.totalSampleCount()];
+        this.mixedSamples = ByteBuffer
+            .allocateDirect(busFormat.totalSampleCount() * 2)
+            .order(ByteOrder.nativeOrder())
+            .asShortBuffer();
+        this.encoded = ByteBuffer.allocate(outputFormat.maximumChunkSize());
+        this.encoderLock = new Object();
+        this.limiterGain = 1.0f;
+    }
+
+    /**
+     * Add a new input to the mix. Its volume is the gain of that input in the mix.
+     *
+     * @return The player which plays the tracks of the new input
+     */
+    public AudioPlayer createInput() {
+        AudioPlayer player = manager.createInputPlayer(inputConfiguration);
+
+        synchronized (inputLock) {
+            List<AudioPlayer> updated = new ArrayList<>(inputs);
+            updated.add(player);
+            inputs = updated;
+        }
+
+        return player;
+    }
+
+    /**
+     * Remove an input from the mix and destroy its player.
+     *
+     * @param player The player of the input
+     */
+    public void removeInput(AudioPlayer player) {
+        synchronized (inputLock) {
+            List<AudioPlayer> updated = new ArrayList<>(inputs);
+            updated.removeIf(input -> input == player);
+            inputs = updated;
+        }
+
+        player.destroy();
+    }
+
+    /**
+     * @return Players of the current inputs
+     */
+    public List<AudioPlayer> getInputs() {
+        return Collections.unmodifiableList(inputs);
+    }
+
+    /**
+     * Destroy all inputs and release the output encoder. No more frames are provided after this.
+     */
+    public void destroy() {
+        List<AudioPlayer> removed;
+
+        synchronized (inputLock) {
+            removed = inputs;
+            inputs = Collections.emptyList();
+        }
+
+        for (AudioPlayer player : removed) {
+            player.destroy();
+        }
+
+        synchronized (encoderLock) {
+            destroyed = true;
+
+            if (encoder != null) {
+                encoder.close();
+                encoder = null;
+            }
+        }
+    }
+
+    @Override
+    public AudioFrame provide() {
+        return AudioFrameProviderTools.delegateToTimedProvide(this);
+    }
+
+    /**
+     * Inputs are never waited for, as a slow input must not delay the others, so the timeout is ignored.
+     */
+    @Override
+    public AudioFrame provide(long timeout, TimeUnit unit) {
+        if (!mixInputs()) {
+            return null;
+        }
+
+        byte[] data = new byte[encoded.remaining()];
+        encoded.get(data);
+
+        return new ImmutableAudioFrame(nextTimecode(), data, 100, outputFormat);
+    }
+
+    @Override
+    public boolean provide(MutableAudioFrame targetFrame) {
+        if (!mixInputs()) {
+            return false;
+        }
+
+        targetFrame.store(encoded.array(), encoded.position(), encoded.remaining());
+        targetFrame.setTimecode(nextTimecode());
+        targetFrame.setVolume(100);
+        targetFrame.setFormat(outputFormat);
+        targetFrame.setTerminator(false);
+        return true;
+    }
+
+    /**
+     * Inputs are never waited for, as a slow input must not delay the others, so the timeout is ignored.
+     */
+    @Override
+    public boolean provide(MutableAudioFrame targetFrame, long timeout, TimeUnit unit) {
+        return provide(targetFrame);
+    }
+
+    private long nextTimecode() {
+        return frameCount++ * outputFormat.frameDuration();
+    }
+
+    private boolean mixInputs() {
+        int inputCount = 0;
+
+        for (AudioPlayer input : inputs) {
+            if (input.provide(inputFrame) && busFormat.equals(inputFrame.getFormat())) {
+                addToBus(inputCount == 0);
+                inputCount++;
+            }
+        }
+
+        if (inputCount == 0) {
+            return false;
+        }
+
+        limitAndStore();
+
+        // Destroying may happen on another thread, the encoder must not be used or created again after it is closed
+        synchronized (encoderLock) {
+            if (destroyed) {
+                return false;
+            }
+
+            if (encoder == null) {
+                encoder = outputFormat.createEncoder(manager.getConfiguration());
+            }
+
+            encoded.clear();
+            encoder.encode(mixedSamples, encoded);
+        }
+
+        return true;
+    }
+
+    private void addToBus(boolean first) {
+        int length = Math.min(inputFrame.getDataLength(), bus.length * 2);
+        inputFrame.getData(inputData, 0);
+
+        int sampleCount = length / 2;
+
+        for (int i = 0; i < sampleCount; i++) {
+            int sample = (short) ((inputData[i * 2] << 8) | (inputData[i * 2 + 1] & 0xFF));
+            bus[i] = first ? sample : bus[i] + sample;
+        }
+
+        if (first) {
+            for (int i = sampleCount; i < bus.length; i++) {
+                bus[i] = 0;
+            }
+        }
+    }
+
+    private void limitAndStore() {
+        int peak = 0;
+
+        for (int sample : bus) {
+            peak = Math.max(peak, Math.abs(sample));
+        }
+
+        float gain = Math.min(1.0f, limiterGain + LIMITER_RELEASE_PER_FRAME);
+
+        if (peak * gain > Short.MAX_VALUE) {
+            gain = (float) Short.MAX_VALUE / peak;
+        }
+
+        limiterGain = gain;
+
+        mixedSamples.clear();
+
+        for (int sample : bus) {
+            mixedSamples.put((short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(sample * gain))));
+        }
+
+        mixedSamples.flip();
+    }
+}
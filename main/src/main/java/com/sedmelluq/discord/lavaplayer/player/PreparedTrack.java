@@ -0,0 +1,79 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.TrackStateListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A track which is already executing in the background before it is started on a player. Track state events which
+ * occur before the track is started are held back and delivered to the player once it is attached.
+ */
+class PreparedTrack implements TrackStateListener {
+    private final InternalAudioTrack track;
+    private final List<Consumer<TrackStateListener>> pendingEvents;
+    private TrackStateListener target;
+
+    /**
+     * @param track The track which is being prepared
+     */
+    PreparedTrack(InternalAudioTrack track) {
+        this.track = track;
+        this.pendingEvents = new ArrayList<>();
+    }
+
+    /**
+     * @return The track which is being prepared
+     */
+    InternalAudioTrack getTrack() {
+        return track;
+    }
+
+    /**
+     * Start delivering track state events to the specified listener, including the ones which occurred before this call.
+     *
+     * @param listener Listener of track state events
+     */
+    void attach(TrackStateListener listener) {
+        List<Consumer<TrackStateListener>> events;
+
+        synchronized (this) {
+            target = listener;
+            events = new ArrayList<>(pendingEvents);
+            pendingEvents.clear();
+        }
+
+        for (Consumer<TrackStateListener> event : events) {
+            event.accept(listener);
+        }
+    }
+
+    @Override
+    public void onTrackException(AudioTrack track, FriendlyException exception) {
+        forward(listener -> listener.onTrackException(track, exception));
+    }
+
+    @Override
+    public void onTrackStuck(AudioTrack track, long thresholdMs) {
+        forward(listener -> listener.onTrackStuck(track, thresholdMs));
+    }
+
+    private void forward(Consumer<TrackStateListener> event) {
+        TrackStateListener listener;
+
+        synchronized (this) {
+            listener = target;
+
+            if (listener == null) {
+                pendingEvents.add(event);
+                return;
+            }
+        }
+
+        event.accept(listener);
+    }
+}
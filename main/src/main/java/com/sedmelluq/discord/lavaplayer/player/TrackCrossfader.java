@@ -0,0 +1,150 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkDecoder;
+import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkEncoder;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrame;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProvider;
+import com.sedmelluq.discord.lavaplayer.track.playback.ImmutableAudioFrame;
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+
+/**
+ * Mixes the remaining buffered frames of an outgoing track with the first frames of an incoming track. Only the frames
+ * in the overlap are decoded and encoded again. The codec buffers are allocated up front, so mixing into a mutable frame
+ * does not allocate. Mixing an immutable frame allocates the returned frame and its data, as the caller may keep it.
+ * The gains follow an equal-power curve which is interpolated linearly within each frame. An instance must only be used
+ * by the thread which provides frames from the player.
+ */
+class TrackCrossfader {
+    private final AudioFrameProvider outgoing;
+    private final AudioDataFormat format;
+    private final int totalFrames;
+    private final AudioChunkDecoder outgoingDecoder;
+    private final AudioChunkDecoder incomingDecoder;
+    private final AudioChunkEncoder encoder;
+    private final ShortBuffer outgoingSamples;
+    private final ShortBuffer incomingSamples;
+    private final MutableAudioFrame outgoingFrame;
+    private final byte[] frameData;
+    private final ByteBuffer encoded;
+    private int mixedFrames;
+
+    /**
+     * @param outgoing      Provider of the frames of the outgoing track
+     * @param configuration Configuration to use for encoding the mixed frames
+     * @param format        Format of the frames of both tracks
+     * @param duration      Duration of the crossfade in milliseconds
+     */
+    TrackCrossfader(AudioFrameProvider outgoing, AudioConfiguration configuration, AudioDataFormat format, int duration) {
+        this.outgoing = outgoing;
+        this.format = format;
+        this.totalFrames = (int) Math.max(1, duration / format.frameDuration());
+        this.outgoingDecoder = format.createDecoder();
+        this.incomingDecoder = format.createDecoder();
+        this.encoder = format.createEncoder(configuration);
+        this.outgoingSamples = createSampleBuffer(format);
+        this.incomingSamples = createSampleBuffer(format);
+        this.outgoingFrame = new MutableAudioFrame(ByteBuffer.allocate(format.maximumChunkSize()));
+        this.frameData = new byte[format.maximumChunkSize()];
+        this.encoded = ByteBuffer.allocate(format.maximumChunkSize());
+    }
+
+    /**
+     * @return Provider of the frames of the outgoing track
+     */
+    AudioFrameProvider getOutgoing() {
+        return outgoing;
+    }
+
+    /**
+     * @return True if the full crossfade duration has been mixed
+     */
+    boolean isFinished() {
+        return mixedFrames >= totalFrames;
+    }
+
+    /**
+     * Fetch the next frame of the outgoing track to mix with the next incoming frame.
+     *
+     * @param incomingFormat Format of the next incoming frame
+     * @return False if the outgoing track has no more buffered frames or they cannot be mixed
+     */
+    boolean fetchOutgoing(AudioDataFormat incomingFormat) {
+        return format.equals(incomingFormat) && outgoing.provide(outgoingFrame) && !outgoingFrame.isTerminator() &&
+            format.equals(outgoingFrame.getFormat());
+    }
+
+    /**
+     * @param incoming Frame of the incoming track, replaced with the mixed frame
+     */
+    void mix(MutableAudioFrame incoming) {
+        mixSamples(incoming);
+        incoming.store(encoded.array(), encoded.position(), encoded.remaining());
+    }
+
+    /**
+     * @param incoming Frame of the incoming track
+     * @return The mixed frame, a new instance which does not share its data with this crossfader
+     */
+    AudioFrame mix(AudioFrame incoming) {
+        mixSamples(incoming);
+
+        byte[] data = new byte[encoded.remaining()];
+        encoded.get(data);
+
+        return new ImmutableAudioFrame(incoming.getTimecode(), data, incoming.getVolume(), format);
+    }
+
+    private void mixSamples(AudioFrame incoming) {
+        int outgoingLength = outgoingFrame.getDataLength();
+        outgoingFrame.getData(frameData, 0);
+        outgoingDecoder.decode(frameData, 0, outgoingLength, outgoingSamples);
+
+        int incomingLength = incoming.getDataLength();
+        incoming.getData(frameData, 0);
+        incomingDecoder.decode(frameData, 0, incomingLength, incomingSamples);
+
+        double startProgress = (double) mixedFrames / totalFrames;
+        double endProgress = (double) Math.min(mixedFrames + 1, totalFrames) / totalFrames;
+        mixedFrames++;
+
+        float startIn = (float) Math.sqrt(startProgress);
+        float endIn = (float) Math.sqrt(endProgress);
+        float startOut = (float) Math.sqrt(1.0 - startProgress);
+        float endOut = (float) Math.sqrt(1.0 - endProgress);
+
+        int sampleCount = Math.min(outgoingSamples.remaining(), incomingSamples.remaining());
+
+        for (int i = 0; i < sampleCount; i++) {
+            float position = (float) i / sampleCount;
+            float gainIn = startIn + (endIn - startIn) * position;
+            float gainOut = startOut + (endOut - startOut) * position;
+
+            int mixed = Math.round(incomingSamples.get(i) * gainIn + outgoingSamples.get(i) * gainOut);
+            incomingSamples.put(i, (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixed)));
+        }
+
+        encoded.clear();
+        encoder.encode(incomingSamples, encoded);
+    }
+
+    /**
+     * Free the codecs used for mixing.
+     */
+    void close() {
+        outgoingDecoder.close();
+        incomingDecoder.close();
+        encoder.close();
+    }
+
+    private static ShortBuffer createSampleBuffer(AudioDataFormat format) {
+        return ByteBuffer
+            .allocateDirect(format.totalSampleCount() * 2)
+            .order(ByteOrder.nativeOrder())
+            .asShortBuffer();
+    }
+}
@@ -0,0 +1,32 @@
+package com.sedmelluq.discord.lavaplayer.player.cache;
+
+/**
+ * Storage backend for {@link AudioItemLoadCache}. Implementations may keep entries in memory or in an external store
+ * shared between nodes. All methods may be called concurrently from item loader threads.
+ */
+public interface AudioItemCacheStore {
+    /**
+     * @param sourceName Name of the source manager which loaded the item
+     * @param identifier Identifier the item was loaded with
+     * @return The stored entry, or null if there is none. Expired entries may be returned, the caller checks expiry.
+     */
+    CachedTrackEntry get(String sourceName, String identifier);
+
+    /**
+     * @param sourceName Name of the source manager which loaded the item
+     * @param identifier Identifier the item was loaded with
+     * @param entry      Entry to store
+     */
+    void put(String sourceName, String identifier, CachedTrackEntry entry);
+
+    /**
+     * @param sourceName Name of the source manager which loaded the item
+     * @param identifier Identifier the item was loaded with
+     */
+    void remove(String sourceName, String identifier);
+
+    /**
+     * Remove all entries from the store.
+     */
+    void clear();
+}
@@ -0,0 +1,147 @@
+package com.sedmelluq.discord.lavaplayer.player.cache;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache for the results of loading single tracks, keyed by the source manager and the identifier that was used to load
+ * them. Only track info and encoded track details are stored, so a hit is turned back into a track without contacting
+ * the source. The time to live can be configured per source, a time to live of zero disables caching for that source.
+ */
+public class AudioItemLoadCache {
+    private static final int DEFAULT_MAXIMUM_SIZE = 10000;
+    private static final long DEFAULT_TTL = 60L * 60L * 1000L;
+
+    private final AudioItemCacheStore store;
+    private final Map<String, Long> sourceTtls;
+    private volatile long defaultTtl;
+
+    /**
+     * Create a cache backed by an in-memory LRU store of the default size.
+     */
+    public AudioItemLoadCache() {
+        this(new InMemoryAudioItemCacheStore(DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * @param store Store to keep the cached entries in
+     */
+    public AudioItemLoadCache(AudioItemCacheStore store) {
+        this.store = store;
+        this.sourceTtls = new ConcurrentHashMap<>();
+        this.defaultTtl = DEFAULT_TTL;
+    }
+
+    /**
+     * @return The store the cached entries are kept in
+     */
+    public AudioItemCacheStore getStore() {
+        return store;
+    }
+
+    /**
+     * @param defaultTtl Time to live in milliseconds for sources which do not have a specific one configured
+     */
+    public void setDefaultTtl(long defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * @param sourceName Name of the source manager, as returned by its getSourceName()
+     * @param ttl        Time to live in milliseconds for items loaded by that source, zero to disable caching for it
+     */
+    public void setSourceTtl(String sourceName, long ttl) {
+        sourceTtls.put(sourceName, ttl);
+    }
+
+    /**
+     * @param sourceName Name of the source manager
+     * @return True if items of this source are cached at all
+     */
+    public boolean isEnabledFor(String sourceName) {
+        return getTtl(sourceName) > 0;
+    }
+
+    /**
+     * @param sourceName Name of the source manager
+     * @param identifier Identifier the item was loaded with
+     * @return The cached entry if it exists and has not expired, otherwise null
+     */
+    public CachedTrackEntry lookup(String sourceName, String identifier) {
+        if (!isEnabledFor(sourceName)) {
+            return null;
+        }
+
+        CachedTrackEntry entry = store.get(sourceName, identifier);
+
+        if (entry == null) {
+            return null;
+        } else if (entry.isExpired(System.currentTimeMillis())) {
+            store.remove(sourceName, identifier);
+            return null;
+        }
+
+        return entry;
+    }
+
+    /**
+     * @param sourceName Name of the source manager
+     * @param identifier Identifier the item was loaded with
+     * @param trackInfo  Meta info of the loaded track
+     * @param details    Encoded track details, including the name of the source manager
+     */
+    public void store(String sourceName, String identifier, AudioTrackInfo trackInfo, byte[] details) {
+        long ttl = getTtl(sourceName);
+
+        if (ttl <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = ttl >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttl;
+
+        store.put(sourceName, identifier, new CachedTrackEntry(copyInfo(trackInfo), details, expiresAt));
+    }
+
+    /**
+     * @param sourceName Name of the source manager
+     * @param identifier Identifier the item was loaded with
+     */
+    public void invalidate(String sourceName, String identifier) {
+        store.remove(sourceName, identifier);
+    }
+
+    /**
+     * Remove all cached entries.
+     */
+    public void clear() {
+        store.clear();
+    }
+
+    /**
+     * Creates a copy of track info, as the title of a track info instance can be changed by the track owner.
+     *
+     * @param trackInfo Track info to copy
+     * @return Copy of the track info
+     */
+    public static AudioTrackInfo copyInfo(AudioTrackInfo trackInfo) {
+        return new AudioTrackInfo(
+            trackInfo.title,
+            trackInfo.author,
+            trackInfo.length,
+            trackInfo.identifier,
+            trackInfo.isStream,
+            trackInfo.uri,
+            trackInfo.artworkUrl,
+            trackInfo.isrc,
+            trackInfo.replayGainDb
+        );
+    }
+
+    private long getTtl(String sourceName) {
+        Long ttl = sourceTtls.get(sourceName);
+        return ttl != null ? ttl : defaultTtl;
+    }
+}
@@ -0,0 +1,41 @@
+package com.sedmelluq.discord.lavaplayer.player.cache;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+/**
+ * A cached result of loading a single track: its meta info and the source specific details as produced by
+ * {@link com.sedmelluq.discord.lavaplayer.player.DefaultAudioPlayerManager#encodeTrackDetails}.
+ */
+public class CachedTrackEntry {
+    /**
+     * Meta info of the loaded track
+     */
+    public final AudioTrackInfo trackInfo;
+    /**
+     * Encoded track details, including the name of the source manager
+     */
+    public final byte[] details;
+    /**
+     * Wall clock time in milliseconds after which this entry must no longer be used
+     */
+    public final long expiresAt;
+
+    /**
+     * @param trackInfo Meta info of the loaded track
+     * @param details   Encoded track details, including the name of the source manager
+     * @param expiresAt Wall clock time in milliseconds after which this entry must no longer be used
+     */
+    public CachedTrackEntry(AudioTrackInfo trackInfo, byte[] details, long expiresAt) {
+        this.trackInfo = trackInfo;
+        this.details = details;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @param now Current wall clock time in milliseconds
+     * @return True if this entry has expired
+     */
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
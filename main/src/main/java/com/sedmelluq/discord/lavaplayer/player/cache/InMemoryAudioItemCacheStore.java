@@ -0,0 +1,51 @@
+package com.sedmelluq.discord.lavaplayer.player.cache;
+
+import com.sedmelluq.discord.lavaplayer.tools.ExpiringLruCache;
+
+/**
+ * Cache store which keeps a bounded number of entries in memory, evicting the least recently used ones first.
+ */
+public class InMemoryAudioItemCacheStore implements AudioItemCacheStore {
+    private final ExpiringLruCache<String, CachedTrackEntry> entries;
+
+    /**
+     * @param maximumSize Maximum number of entries to keep
+     */
+    public InMemoryAudioItemCacheStore(int maximumSize) {
+        this.entries = new ExpiringLruCache<>(maximumSize);
+    }
+
+    @Override
+    public CachedTrackEntry get(String sourceName, String identifier) {
+        return entries.get(key(sourceName, identifier));
+    }
+
+    @Override
+    public void put(String sourceName, String identifier, CachedTrackEntry entry) {
+        long ttl = entry.expiresAt == Long.MAX_VALUE ? Long.MAX_VALUE :
+            Math.max(0, entry.expiresAt - System.currentTimeMillis());
+
+        entries.put(key(sourceName, identifier), entry, ttl);
+    }
+
+    @Override
+    public void remove(String sourceName, String identifier) {
+        entries.remove(key(sourceName, identifier));
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @param maximumSize New maximum number of entries to keep
+     */
+    public void setMaximumSize(int maximumSize) {
+        entries.setMaximumSize(maximumSize);
+    }
+
+    private static String key(String sourceName, String identifier) {
+        return sourceName + '\u0000' + identifier;
+    }
+}
@@ -4,6 +4,8 @@ import com.sedmelluq.discord.lavaplayer.container.MediaContainerDescriptor;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerProbe;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerRegistry;
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemLoadCache;
+import com.sedmelluq.discord.lavaplayer.tools.ExpiringLruCache;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
@@ -20,11 +22,71 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
  */
 public abstract class ProbingAudioSourceManager implements AudioSourceManager {
     private static final char PARAMETERS_SEPARATOR = '|';
+    private static final int DEFAULT_DETECTION_CACHE_SIZE = 1000;
 
     protected final MediaContainerRegistry containerRegistry;
+    private final ExpiringLruCache<String, MediaContainerDetectionResult> detectionCache;
+    private volatile long detectionCacheDuration;
 
     protected ProbingAudioSourceManager(MediaContainerRegistry containerRegistry) {
         this.containerRegistry = containerRegistry;
+        this.detectionCache = new ExpiringLruCache<>(DEFAULT_DETECTION_CACHE_SIZE);
+    }
+
+    /**
+     * @param detectionCacheSize Maximum number of detection results to remember for files which have not changed
+     */
+    public void setDetectionCacheSize(int detectionCacheSize) {
+        detectionCache.setMaximumSize(detectionCacheSize);
+    }
+
+    /**
+     * Enable remembering detection results of files which have not changed. Disabled by default, as a file can change
+     * without its fingerprint changing, for example when a server sends neither an ETag nor a Content-Length.
+     *
+     * @param detectionCacheDuration Time in milliseconds to remember a detection result for, 0 to disable the cache
+     */
+    public void setDetectionCacheDuration(long detectionCacheDuration) {
+        this.detectionCacheDuration = detectionCacheDuration;
+
+        if (detectionCacheDuration <= 0) {
+            detectionCache.clear();
+        }
+    }
+
+    /**
+     * @param fingerprint Key which identifies the file and changes when the file changes
+     * @return A copy of the detection result previously stored for this fingerprint, null if there is none
+     */
+    protected MediaContainerDetectionResult getCachedDetection(String fingerprint) {
+        MediaContainerDetectionResult result = detectionCacheDuration > 0 ? detectionCache.get(fingerprint) : null;
+        return result != null ? copyDetection(result) : null;
+    }
+
+    /**
+     * Remember a detection result, so that loading the same unchanged file again does not have to probe it. Only
+     * results of supported files are stored, other results are cheap to detect again or may be temporary. A copy is
+     * stored, so that changes to the track info of the result are not seen by later loads.
+     *
+     * @param fingerprint Key which identifies the file and changes when the file changes
+     * @param result      Detection result of the file
+     * @return The detection result
+     */
+    protected MediaContainerDetectionResult cacheDetection(String fingerprint, MediaContainerDetectionResult result) {
+        long duration = detectionCacheDuration;
+
+        if (duration > 0 && result != null && result.isSupportedFile()) {
+            detectionCache.put(fingerprint, copyDetection(result), duration);
+        }
+
+        return result;
+    }
+
+    private static MediaContainerDetectionResult copyDetection(MediaContainerDetectionResult result) {
+        MediaContainerDescriptor descriptor = result.getContainerDescriptor();
+
+        return MediaContainerDetectionResult.supportedFormat(descriptor.probe, descriptor.parameters,
+            AudioItemLoadCache.copyInfo(result.getTrackInfo()));
     }
 
     protected AudioItem handleLoadResult(MediaContainerDetectionResult result) {
@@ -130,8 +130,22 @@ public class HttpAudioSourceManager extends ProbingAudioSourceManager implements
                 throw new FriendlyException("That URL is not playable.", COMMON, new IllegalStateException("Status code " + statusCode));
             }
 
-            MediaContainerHints hints = MediaContainerHints.from(getHeaderValue(inputStream.getCurrentResponse(), "Content-Type"), null);
-            return new MediaContainerDetection(containerRegistry, reference, inputStream, hints).detectContainer();
+            String contentType = getHeaderValue(inputStream.getCurrentResponse(), "Content-Type");
+            String etag = getHeaderValue(inputStream.getCurrentResponse(), "ETag");
+            String contentLength = getHeaderValue(inputStream.getCurrentResponse(), "Content-Length");
+            MediaContainerDetection detection = new MediaContainerDetection(containerRegistry, reference, inputStream,
+                MediaContainerHints.from(contentType, null));
+
+            // Without either header a changed resource would keep the same fingerprint
+            if (etag == null && contentLength == null) {
+                return detection.detectContainer();
+            }
+
+            String fingerprint = reference.identifier + '|' + etag + '|' + contentLength + '|' + contentType + '|' +
+                reference.title;
+
+            MediaContainerDetectionResult cached = getCachedDetection(fingerprint);
+            return cached != null ? cached : cacheDetection(fingerprint, detection.detectContainer());
         } catch (URISyntaxException e) {
             throw new FriendlyException("Not a valid URL.", COMMON, e);
         }
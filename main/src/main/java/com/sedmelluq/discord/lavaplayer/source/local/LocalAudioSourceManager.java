@@ -4,15 +4,18 @@ import com.sedmelluq.discord.lavaplayer.container.*;
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.ProbingAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
 
@@ -20,6 +23,9 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
  * Audio source manager that implements finding audio files from the local file system.
  */
 public class LocalAudioSourceManager extends ProbingAudioSourceManager {
+    private volatile boolean useMemoryMapping;
+    private volatile LocalLibraryIndex libraryIndex;
+
     public LocalAudioSourceManager() {
         this(MediaContainerRegistry.DEFAULT_REGISTRY);
     }
@@ -28,6 +34,26 @@ public class LocalAudioSourceManager extends ProbingAudioSourceManager {
         super(containerRegistry);
     }
 
+    /**
+     * Memory mapping avoids copying file contents through a separate buffer for each playing track and makes seeking
+     * free. On Windows, a mapped file cannot be deleted or replaced until the mapping is garbage collected.
+     *
+     * @param useMemoryMapping Whether to read files through memory mappings, disabled by default
+     */
+    public void setUseMemoryMapping(boolean useMemoryMapping) {
+        this.useMemoryMapping = useMemoryMapping;
+    }
+
+    /**
+     * With an index, unchanged indexed files are loaded without probing them, and loading a directory returns a playlist
+     * of the indexed tracks in it. Files which are not indexed are still probed.
+     *
+     * @param libraryIndex Index of local files to use for loading, null to always probe files
+     */
+    public void setLibraryIndex(LocalLibraryIndex libraryIndex) {
+        this.libraryIndex = libraryIndex;
+    }
+
     @Override
     public String getSourceName() {
         return "local";
@@ -36,9 +62,27 @@ public class LocalAudioSourceManager extends ProbingAudioSourceManager {
     @Override
     public AudioItem loadItem(AudioPlayerManager manager, AudioReference reference) {
         File file = new File(reference.identifier);
+        LocalLibraryIndex index = libraryIndex;
+
+        if (index != null) {
+            AudioItem indexed = loadFromIndex(index, reference, file);
+
+            if (indexed != null) {
+                return indexed;
+            }
+        }
 
         if (file.exists() && file.isFile() && file.canRead()) {
-            return handleLoadResult(detectContainerForFile(reference, file));
+            String fingerprint = file.getAbsolutePath() + '|' + file.lastModified() + '|' + file.length() + '|' +
+                reference.title;
+
+            MediaContainerDetectionResult result = getCachedDetection(fingerprint);
+
+            if (result == null) {
+                result = cacheDetection(fingerprint, detectContainerForFile(reference, file));
+            }
+
+            return handleLoadResult(result);
         } else {
             return null;
         }
@@ -49,8 +93,20 @@ public class LocalAudioSourceManager extends ProbingAudioSourceManager {
         return new LocalAudioTrack(trackInfo, containerTrackFactory, this);
     }
 
-    private MediaContainerDetectionResult detectContainerForFile(AudioReference reference, File file) {
-        try (LocalSeekableInputStream inputStream = new LocalSeekableInputStream(file)) {
+    private AudioItem loadFromIndex(LocalLibraryIndex index, AudioReference reference, File file) {
+        if (file.isDirectory()) {
+            List<AudioTrack> tracks = index.getTracks(file);
+            return tracks.isEmpty() ? null : new BasicAudioPlaylist(file.getName(), tracks, null, false);
+        } else if (reference.title == null) {
+            // An explicit title has to be applied by probing, the indexed track info has the title from the tags
+            return index.getTrack(file);
+        }
+
+        return null;
+    }
+
+    MediaContainerDetectionResult detectContainerForFile(AudioReference reference, File file) {
+        try (SeekableInputStream inputStream = openFile(file)) {
             int lastDotIndex = file.getName().lastIndexOf('.');
             String fileExtension = lastDotIndex >= 0 ? file.getName().substring(lastDotIndex + 1) : null;
 
@@ -61,6 +117,19 @@ public class LocalAudioSourceManager extends ProbingAudioSourceManager {
         }
     }
 
+    /**
+     * @param file File to open
+     * @return Stream for reading the file
+     * @throws IOException On error opening the file
+     */
+    SeekableInputStream openFile(File file) throws IOException {
+        if (useMemoryMapping) {
+            return new MappedSeekableInputStream(file);
+        } else {
+            return new LocalSeekableInputStream(file);
+        }
+    }
+
     @Override
     public boolean isTrackEncodable(AudioTrack track) {
         return true;
@@ -0,0 +1,359 @@
+package com.sedmelluq.discord.lavaplayer.source.local;
+
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerDescriptor;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemLoadCache;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.lava.common.tools.ExecutorTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sedmelluq.discord.lavaplayer.tools.DataFormatTools.readNullableText;
+import static com.sedmelluq.discord.lavaplayer.tools.DataFormatTools.writeNullableText;
+
+/**
+ * Index of the audio files in local directory trees. Directories are walked in parallel, each new or modified file is
+ * probed once with the container probes of the source manager, which also read the tags of the file, and the result
+ * is kept together with the modification time and size of the file. Loading an indexed file which has not changed
+ * since then does not have to read the file at all. The index can be saved to a file and loaded again on startup, after
+ * which a refresh only probes the files which have changed.
+ */
+public class LocalLibraryIndex {
+    private static final Logger log = LoggerFactory.getLogger(LocalLibraryIndex.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILES_PER_TASK = 16;
+
+    private final LocalAudioSourceManager sourceManager;
+    private final ForkJoinPool scanPool;
+    private final Map<String, Entry> entries;
+
+    /**
+     * @param sourceManager Source manager whose container probes are used and which creates the indexed tracks
+     */
+    public LocalLibraryIndex(LocalAudioSourceManager sourceManager) {
+        this(sourceManager, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param sourceManager Source manager whose container probes are used and which creates the indexed tracks
+     * @param parallelism   Maximum number of files or directories to read at the same time while scanning
+     */
+    public LocalLibraryIndex(LocalAudioSourceManager sourceManager, int parallelism) {
+        this.sourceManager = sourceManager;
+        this.scanPool = new ForkJoinPool(parallelism);
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Scan a directory tree, probing the files which are not in the index yet or have changed since they were indexed,
+     * and removing the files under it which no longer exist. Blocks until the scan is complete.
+     *
+     * @param root Directory to scan
+     * @return Number of files that were probed
+     */
+    public int refresh(File root) {
+        String rootPath = root.getAbsolutePath();
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        AtomicInteger probed = new AtomicInteger();
+
+        scanPool.invoke(new DirectoryTask(root.getAbsoluteFile(), seen, probed));
+
+        entries.keySet().removeIf(path -> isUnder(path, rootPath) && !seen.contains(path));
+
+        log.debug("Refreshed local library index at {}, probed {} of {} files.", rootPath, probed.get(), seen.size());
+        return probed.get();
+    }
+
+    /**
+     * @param file Audio file
+     * @return A new track for the file if the file is indexed and has not changed since, otherwise null
+     */
+    public AudioTrack getTrack(File file) {
+        File absoluteFile = file.getAbsoluteFile();
+        Entry entry = entries.get(absoluteFile.getPath());
+
+        if (entry == null || entry.trackInfo == null || !entry.matches(absoluteFile)) {
+            return null;
+        }
+
+        return new LocalAudioTrack(AudioItemLoadCache.copyInfo(entry.trackInfo), entry.descriptor, sourceManager);
+    }
+
+    /**
+     * @param directory Directory to list
+     * @return New tracks for all indexed audio files in the directory and its subdirectories, ordered by path
+     */
+    public List<AudioTrack> getTracks(File directory) {
+        String directoryPath = directory.getAbsolutePath();
+        List<Map.Entry<String, Entry>> matching = new ArrayList<>();
+
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            if (item.getValue().trackInfo != null && isUnder(item.getKey(), directoryPath)) {
+                matching.add(item);
+            }
+        }
+
+        matching.sort(Map.Entry.comparingByKey());
+
+        List<AudioTrack> tracks = new ArrayList<>(matching.size());
+
+        for (Map.Entry<String, Entry> item : matching) {
+            Entry entry = item.getValue();
+            tracks.add(new LocalAudioTrack(AudioItemLoadCache.copyInfo(entry.trackInfo), entry.descriptor, sourceManager));
+        }
+
+        return tracks;
+    }
+
+    /**
+     * @return Number of indexed files, including files which are not supported audio files
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Save the index to a file. The file is replaced only once the index has been completely written.
+     *
+     * @param file File to save the index to
+     * @throws IOException On write error
+     */
+    public void save(File file) throws IOException {
+        File temporaryFile = new File(file.getPath() + ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+
+            List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(snapshot.size());
+
+            for (Map.Entry<String, Entry> item : snapshot) {
+                Entry entry = item.getValue();
+
+                output.writeUTF(item.getKey());
+                output.writeLong(entry.lastModified);
+                output.writeLong(entry.length);
+                output.writeBoolean(entry.trackInfo != null);
+
+                if (entry.trackInfo != null) {
+                    writeTrackInfo(output, entry.trackInfo);
+                    sourceManager.encodeTrack(new LocalAudioTrack(entry.trackInfo, entry.descriptor, sourceManager), output);
+                }
+            }
+        }
+
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Load an index previously saved with {@link #save(File)}, adding its entries to this index. Entries whose
+     * container is not known to the source manager any more are skipped, so those files are probed again on refresh.
+     *
+     * @param file File to load the index from
+     * @throws IOException On read error or if the file is not a saved index
+     */
+    public void load(File file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            int version = input.readInt();
+
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported local library index version " + version + ".");
+            }
+
+            int count = input.readInt();
+
+            for (int i = 0; i < count; i++) {
+                String path = input.readUTF();
+                long lastModified = input.readLong();
+                long length = input.readLong();
+
+                if (!input.readBoolean()) {
+                    entries.put(path, new Entry(lastModified, length, null, null));
+                    continue;
+                }
+
+                AudioTrackInfo trackInfo = readTrackInfo(input);
+                AudioTrack track = sourceManager.decodeTrack(trackInfo, input);
+
+                if (track != null) {
+                    MediaContainerDescriptor descriptor = ((LocalAudioTrack) track).getContainerTrackFactory();
+                    entries.put(path, new Entry(lastModified, length, trackInfo, descriptor));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop the threads used for scanning.
+     */
+    public void shutdown() {
+        ExecutorTools.shutdownExecutor(scanPool, "local library scan");
+    }
+
+    private void indexFile(File file, Set<String> seen, AtomicInteger probed) {
+        String path = file.getPath();
+        Entry existing = entries.get(path);
+        seen.add(path);
+
+        if (existing != null && existing.matches(file)) {
+            return;
+        }
+
+        long lastModified = file.lastModified();
+        long length = file.length();
+        MediaContainerDetectionResult result;
+
+        try {
+            result = sourceManager.detectContainerForFile(new AudioReference(path, null), file);
+        } catch (Exception e) {
+            log.debug("Failed to probe {} for the local library index.", path, e);
+            result = null;
+        }
+
+        probed.incrementAndGet();
+
+        if (result != null && result.isSupportedFile()) {
+            entries.put(path, new Entry(lastModified, length, result.getTrackInfo(), result.getContainerDescriptor()));
+        } else {
+            entries.put(path, new Entry(lastModified, length, null, null));
+        }
+    }
+
+    private static boolean isUnder(String path, String directoryPath) {
+        return path.startsWith(directoryPath) && (path.length() == directoryPath.length() ||
+            path.charAt(directoryPath.length()) == File.separatorChar ||
+            directoryPath.endsWith(File.separator));
+    }
+
+    private static void writeTrackInfo(DataOutputStream output, AudioTrackInfo trackInfo) throws IOException {
+        writeNullableText(output, trackInfo.title);
+        writeNullableText(output, trackInfo.author);
+        output.writeLong(trackInfo.length);
+        writeNullableText(output, trackInfo.identifier);
+        output.writeBoolean(trackInfo.isStream);
+        writeNullableText(output, trackInfo.uri);
+        writeNullableText(output, trackInfo.artworkUrl);
+        writeNullableText(output, trackInfo.isrc);
+        output.writeBoolean(trackInfo.replayGainDb != null);
+
+        if (trackInfo.replayGainDb != null) {
+            output.writeFloat(trackInfo.replayGainDb);
+        }
+    }
+
+    private static AudioTrackInfo readTrackInfo(DataInputStream input) throws IOException {
+        String title = readNullableText(input);
+        String author = readNullableText(input);
+        long length = input.readLong();
+        String identifier = readNullableText(input);
+        boolean isStream = input.readBoolean();
+        String uri = readNullableText(input);
+        String artworkUrl = readNullableText(input);
+        String isrc = readNullableText(input);
+        Float replayGainDb = input.readBoolean() ? input.readFloat() : null;
+
+        return new AudioTrackInfo(title, author, length, identifier, isStream, uri, artworkUrl, isrc, replayGainDb);
+    }
+
+    private static class Entry {
+        private final long lastModified;
+        private final long length;
+        private final AudioTrackInfo trackInfo;
+        private final MediaContainerDescriptor descriptor;
+
+        private Entry(long lastModified, long length, AudioTrackInfo trackInfo, MediaContainerDescriptor descriptor) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.trackInfo = trackInfo;
+            this.descriptor = descriptor;
+        }
+
+        private boolean matches(File file) {
+            return file.lastModified() == lastModified && file.length() == length;
+        }
+    }
+
+    private class DirectoryTask extends RecursiveAction {
+        private final File directory;
+        private final Set<String> seen;
+        private final AtomicInteger probed;
+
+        private DirectoryTask(File directory, Set<String> seen, AtomicInteger probed) {
+            this.directory = directory;
+            this.seen = seen;
+            this.probed = probed;
+        }
+
+        @Override
+        protected void compute() {
+            File[] children = directory.listFiles();
+
+            if (children == null) {
+                return;
+            }
+
+            List<RecursiveAction> subtasks = new ArrayList<>();
+            List<File> files = new ArrayList<>();
+
+            for (File child : children) {
+                if (child.isDirectory()) {
+                    // Symbolic links to directories are not followed, as they may form cycles
+                    if (!Files.isSymbolicLink(child.toPath())) {
+                        subtasks.add(new DirectoryTask(child, seen, probed));
+                    }
+                } else if (child.isFile() && child.canRead()) {
+                    files.add(child);
+                }
+            }
+
+            for (int i = 0; i < files.size(); i += FILES_PER_TASK) {
+                subtasks.add(new FilesTask(files.subList(i, Math.min(files.size(), i + FILES_PER_TASK)), seen, probed));
+            }
+
+            invokeAll(subtasks);
+        }
+    }
+
+    private class FilesTask extends RecursiveAction {
+        private final List<File> files;
+        private final Set<String> seen;
+        private final AtomicInteger probed;
+
+        private FilesTask(List<File> files, Set<String> seen, AtomicInteger probed) {
+            this.files = files;
+            this.seen = seen;
+            this.probed = probed;
+        }
+
+        @Override
+        protected void compute() {
+            for (File file : files) {
+                indexFile(file, seen, probed);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.sedmelluq.discord.lavaplayer.source.local;
+
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.SliceableInputStream;
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Seekable input stream for local files which maps the file into memory. Seeking only moves the position and reads
+ * copy directly from the mapping, so there is no intermediate buffer per stream. Mappings of the same file by
+ * different streams share the pages of the operating system file cache.
+ */
+public class MappedSeekableInputStream extends SeekableInputStream implements SliceableInputStream {
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_BITS;
+
+    private ByteBuffer[] segments;
+    private long position;
+
+    /**
+     * @param file File to map
+     * @throws IOException On error opening or mapping the file
+     */
+    public MappedSeekableInputStream(File file) throws IOException {
+        super(file.length(), 0);
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            FileChannel channel = randomAccessFile.getChannel();
+            contentLength = channel.size();
+            segments = new ByteBuffer[(int) ((contentLength + SEGMENT_SIZE - 1) >>> SEGMENT_BITS)];
+
+            // The mappings stay valid after the channel is closed
+            for (int i = 0; i < segments.length; i++) {
+                long start = (long) i << SEGMENT_BITS;
+                long size = Math.min(SEGMENT_SIZE, contentLength - start);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= contentLength) {
+            return -1;
+        }
+
+        int result = segment(position).get(offset(position)) & 0xFF;
+        position++;
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        } else if (position >= contentLength) {
+            return -1;
+        }
+
+        ByteBuffer view = segment(position).duplicate();
+        view.position(offset(position));
+
+        int chunk = (int) Math.min(len, view.remaining());
+        view.get(b, off, chunk);
+        position += chunk;
+        return chunk;
+    }
+
+    /**
+     * The view is shorter than requested also if a 1 GiB segment boundary is reached.
+     */
+    @Override
+    public ByteBuffer readSlice(int length) throws IOException {
+        if (position >= contentLength) {
+            return ByteBuffer.allocate(0);
+        }
+
+        ByteBuffer view = segment(position).asReadOnlyBuffer();
+        int start = offset(position);
+        int chunk = (int) Math.min(length, view.limit() - start);
+
+        view.position(start);
+        view.limit(start + chunk);
+        position += chunk;
+        return view.slice();
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = Math.max(0, Math.min(n, contentLength - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, contentLength - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        // Mappings are released when they are garbage collected
+        segments = null;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean canSeekHard() {
+        return true;
+    }
+
+    @Override
+    public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected void seekHard(long position) throws IOException {
+        this.position = position;
+    }
+
+    private ByteBuffer segment(long position) throws IOException {
+        ByteBuffer[] current = segments;
+
+        if (current == null) {
+            throw new IOException("Stream is closed.");
+        }
+
+        return current[(int) (position >>> SEGMENT_BITS)];
+    }
+
+    private static int offset(long position) {
+        return (int) (position & (SEGMENT_SIZE - 1));
+    }
+}
@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
@@ -9,6 +10,7 @@ import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.PagedAudioPlaylist;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.core5.net.URIBuilder;
@@ -16,6 +18,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
@@ -30,10 +33,28 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
 
     protected static final String PLAYLIST_URL_REGEX = "^(?:http://|https://|)(?:www\\.|)(?:m\\.|)soundcloud\\.com/([a-zA-Z0-9-_:]+)/sets/([a-zA-Z0-9-_:]+)/?([a-zA-Z0-9-_:]+)?(?:\\?.*|)$";
     protected static final Pattern playlistUrlPattern = Pattern.compile(PLAYLIST_URL_REGEX);
+    protected static final int TRACK_PAGE_SIZE = 50;
+
+    /**
+     * Fields of the track list response which are read by {@link DefaultSoundCloudDataReader}. Loaders used with a data
+     * reader which needs other fields should override {@link #parseTrackList(InputStream)}.
+     */
+    protected static final JsonPathExtractor TRACK_LIST_EXTRACTOR = new JsonPathExtractor(
+        "/*/id",
+        "/*/policy",
+        "/*/title",
+        "/*/user",
+        "/*/full_duration",
+        "/*/permalink_url",
+        "/*/artwork_url",
+        "/*/publisher_metadata",
+        "/*/media"
+    );
 
     protected final SoundCloudDataLoader dataLoader;
     protected final SoundCloudDataReader dataReader;
     protected final SoundCloudFormatHandler formatHandler;
+    private volatile boolean pagedLoading;
 
     public DefaultSoundCloudPlaylistLoader(
         SoundCloudDataLoader dataLoader,
@@ -45,6 +66,14 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
         this.formatHandler = formatHandler;
     }
 
+    /**
+     * @param pagedLoading True to return playlists as a {@link PagedAudioPlaylist} once their first page of tracks has
+     *                     been loaded, false (the default) to load all tracks before returning the playlist
+     */
+    public void setPagedLoading(boolean pagedLoading) {
+        this.pagedLoading = pagedLoading;
+    }
+
     @Override
     public AudioPlaylist load(
         String identifier,
@@ -70,11 +99,28 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
             String kind = rootData.get("kind").text();
             JsonBrowser playlistData = dataReader.findPlaylistData(rootData, kind);
 
-            return new BasicAudioPlaylist(
+            if (!pagedLoading) {
+                return new BasicAudioPlaylist(
+                    dataReader.readPlaylistName(playlistData),
+                    loadPlaylistTracks(httpInterface, playlistData, trackFactory),
+                    null,
+                    false
+                );
+            }
+
+            String playlistId = dataReader.readPlaylistIdentifier(playlistData);
+            List<String> trackIds = readPlaylistTrackIds(playlistData);
+
+            List<AudioTrack> firstPage = trackIds.isEmpty() ? new ArrayList<>() :
+                loadTrackPage(httpInterface, playlistId, trackIds.subList(0, Math.min(TRACK_PAGE_SIZE, trackIds.size())),
+                    trackFactory);
+
+            return new PagedAudioPlaylist(
                 dataReader.readPlaylistName(playlistData),
-                loadPlaylistTracks(httpInterface, playlistData, trackFactory),
+                firstPage,
                 null,
-                false
+                false,
+                new TrackPages(httpInterfaceManager, playlistId, trackIds, trackFactory)
             );
         } catch (IOException e) {
             throw new FriendlyException("Loading playlist from SoundCloud failed.", SUSPICIOUS, e);
@@ -87,27 +133,33 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
         Function<AudioTrackInfo, AudioTrack> trackFactory
     ) throws IOException {
         String playlistId = dataReader.readPlaylistIdentifier(playlistData);
+        List<String> trackIds = readPlaylistTrackIds(playlistData);
+        List<AudioTrack> tracks = new ArrayList<>();
 
-        List<String> trackIds = dataReader.readPlaylistTracks(playlistData).stream()
-            .map(dataReader::readTrackId)
-            .collect(Collectors.toList());
+        for (int i = 0; i < trackIds.size(); i += TRACK_PAGE_SIZE) {
+            int last = Math.min(i + TRACK_PAGE_SIZE, trackIds.size());
+            tracks.addAll(loadTrackPage(httpInterface, playlistId, trackIds.subList(i, last), trackFactory));
+        }
 
-        int numTrackIds = trackIds.size();
-        List<JsonBrowser> trackDataList = new ArrayList<>();
+        return tracks;
+    }
 
-        for (int i = 0; i < numTrackIds; i += 50) {
-            int last = Math.min(i + 50, numTrackIds);
-            List<String> trackIdSegment = trackIds.subList(i, last);
+    protected List<AudioTrack> loadTrackPage(
+        HttpInterface httpInterface,
+        String playlistId,
+        List<String> trackIdSegment,
+        Function<AudioTrackInfo, AudioTrack> trackFactory
+    ) throws IOException {
+        List<JsonBrowser> trackDataList = new ArrayList<>();
 
-            try (ClassicHttpResponse response = httpInterface.execute(new HttpGet(buildTrackListUrl(trackIdSegment)))) {
-                HttpClientTools.assertSuccessWithContent(response, "track list response");
+        try (ClassicHttpResponse response = httpInterface.execute(new HttpGet(buildTrackListUrl(trackIdSegment)))) {
+            HttpClientTools.assertSuccessWithContent(response, "track list response");
 
-                JsonBrowser trackList = JsonBrowser.parse(response.getEntity().getContent());
-                trackDataList.addAll(trackList.values());
-            }
+            JsonBrowser trackList = parseTrackList(response.getEntity().getContent());
+            trackDataList.addAll(trackList.values());
         }
 
-        sortPlaylistTracks(trackDataList, trackIds);
+        sortPlaylistTracks(trackDataList, trackIdSegment);
 
         int blockedCount = 0;
         List<AudioTrack> tracks = new ArrayList<>();
@@ -137,6 +189,16 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
         return tracks;
     }
 
+    private List<String> readPlaylistTrackIds(JsonBrowser playlistData) {
+        return dataReader.readPlaylistTracks(playlistData).stream()
+            .map(dataReader::readTrackId)
+            .collect(Collectors.toList());
+    }
+
+    protected JsonBrowser parseTrackList(InputStream stream) throws IOException {
+        return TRACK_LIST_EXTRACTOR.extract(stream);
+    }
+
     protected URI buildTrackListUrl(List<String> trackIds) {
         try {
             StringJoiner joiner = new StringJoiner(",");
@@ -163,5 +225,41 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
             positions.getOrDefault(dataReader.readTrackId(trackData), Integer.MAX_VALUE)
         ));
     }
-}
 
+    private class TrackPages implements PagedAudioPlaylist.PageLoader {
+        private final HttpInterfaceManager httpInterfaceManager;
+        private final String playlistId;
+        private final List<String> trackIds;
+        private final Function<AudioTrackInfo, AudioTrack> trackFactory;
+        private int nextIndex = TRACK_PAGE_SIZE;
+
+        private TrackPages(
+            HttpInterfaceManager httpInterfaceManager,
+            String playlistId,
+            List<String> trackIds,
+            Function<AudioTrackInfo, AudioTrack> trackFactory
+        ) {
+            this.httpInterfaceManager = httpInterfaceManager;
+            this.playlistId = playlistId;
+            this.trackIds = trackIds;
+            this.trackFactory = trackFactory;
+        }
+
+        @Override
+        public List<AudioTrack> loadNextPage() throws IOException {
+            if (nextIndex >= trackIds.size()) {
+                return null;
+            }
+
+            int last = Math.min(nextIndex + TRACK_PAGE_SIZE, trackIds.size());
+
+            try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+                List<AudioTrack> tracks = loadTrackPage(httpInterface, playlistId, trackIds.subList(nextIndex, last),
+                    trackFactory);
+
+                nextIndex = last;
+                return tracks;
+            }
+        }
+    }
+}
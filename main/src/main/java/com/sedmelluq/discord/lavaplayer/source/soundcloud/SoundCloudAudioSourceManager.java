@@ -4,6 +4,7 @@ import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -71,6 +72,7 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
     private final SoundCloudClientIdTracker clientIdTracker;
     private final boolean allowSearch;
     private final boolean filterOutPreviewTracks;
+    private volatile SearchResultCache searchResultCache;
 
     public static SoundCloudAudioSourceManager createDefault() {
         SoundCloudDataReader dataReader = new DefaultSoundCloudDataReader();
@@ -134,6 +136,13 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
         return formatHandler;
     }
 
+    /**
+     * @param searchResultCache Cache for search results, null (the default) to not cache them
+     */
+    public void setSearchResultCache(SearchResultCache searchResultCache) {
+        this.searchResultCache = searchResultCache;
+    }
+
     @Override
     public String getSourceName() {
         return "soundcloud";
@@ -357,6 +366,17 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
     private AudioItem loadSearchResult(String query, int offset, int rawLimit) {
         int limit = Math.min(rawLimit, MAXIMUM_SEARCH_RESULTS);
 
+        SearchResultCache cache = searchResultCache;
+
+        if (cache == null) {
+            return performSearch(query, offset, limit);
+        }
+
+        return cache.search(getSourceName(), offset + ":" + limit + ":" + query, this::buildTrackFromInfo,
+            () -> performSearch(query, offset, limit));
+    }
+
+    private AudioItem performSearch(String query, int offset, int limit) {
         try (
             HttpInterface httpInterface = getHttpInterface();
             ClassicHttpResponse response = httpInterface.execute(new HttpGet(buildSearchUri(query, offset, limit)))
@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.source.yamusic;
 
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.track.*;
 
 import java.net.URLEncoder;
@@ -22,6 +23,15 @@ public class DefaultYandexSearchProvider extends AbstractYandexMusicApiLoader im
 
     private static final Pattern SEARCH_PATTERN = Pattern.compile("ymsearch(:([a-zA-Z]+))?(:([0-9]+))?:([^:]+)");
 
+    private volatile SearchResultCache searchResultCache;
+
+    /**
+     * @param searchResultCache Cache for search results, null (the default) to not cache them
+     */
+    public void setSearchResultCache(SearchResultCache searchResultCache) {
+        this.searchResultCache = searchResultCache;
+    }
+
     @Override
     public AudioItem loadSearchResult(String query, YandexMusicPlaylistLoader playlistLoader, Function<AudioTrackInfo, AudioTrack> trackFactory) {
         if (query == null || !query.startsWith(SEARCH_PREFIX)) {
@@ -34,6 +44,19 @@ public class DefaultYandexSearchProvider extends AbstractYandexMusicApiLoader im
         String type = getValidType(matcher.group(2));
         int limit = getValidLimit(matcher.group(4));
         String text = matcher.group(5);
+
+        SearchResultCache cache = searchResultCache;
+
+        if (cache == null) {
+            return performSearch(type, limit, text, playlistLoader, trackFactory);
+        }
+
+        return cache.search("yandex-music", type + ":" + limit + ":" + text, trackFactory,
+            () -> performSearch(type, limit, text, playlistLoader, trackFactory));
+    }
+
+    private AudioItem performSearch(String type, int limit, String text, YandexMusicPlaylistLoader playlistLoader,
+                                    Function<AudioTrackInfo, AudioTrack> trackFactory) {
         try {
             return extractFromApi(String.format(TRACKS_INFO_FORMAT, type, URLEncoder.encode(text, "UTF-8")), (httpClient, result) -> {
                 if ("track".equalsIgnoreCase(type)) {
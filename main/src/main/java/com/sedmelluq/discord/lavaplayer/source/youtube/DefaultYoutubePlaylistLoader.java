@@ -2,14 +2,17 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.tools.ThumbnailTools;
 import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
 import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.PagedAudioPlaylist;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.core5.http.io.entity.StringEntity;
@@ -25,16 +28,90 @@ import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.W
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
 
 public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
+    private static final JsonPathExtractor FIRST_PAGE_EXTRACTOR = new JsonPathExtractor(
+        "/alerts",
+        "/header/playlistHeaderRenderer/title/runs/0/text",
+        "/contents/singleColumnBrowseResultsRenderer/tabs/0/tabRenderer/content/sectionListRenderer/contents/0/playlistVideoListRenderer"
+    );
+
+    private static final JsonPathExtractor CONTINUATION_EXTRACTOR = new JsonPathExtractor(
+        "/continuationContents/playlistVideoListContinuation"
+    );
+
     private volatile int playlistPageCount = 6;
+    private volatile boolean pagedLoading;
 
     @Override
     public void setPlaylistPageCount(int playlistPageCount) {
         this.playlistPageCount = playlistPageCount;
     }
 
+    /**
+     * @param pagedLoading True to return playlists as a {@link PagedAudioPlaylist} once their first page (and the page
+     *                     with the selected video) has been loaded, false (the default) to load all pages before
+     *                     returning the playlist
+     */
+    public void setPagedLoading(boolean pagedLoading) {
+        this.pagedLoading = pagedLoading;
+    }
+
     @Override
     public AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                               Function<AudioTrackInfo, AudioTrack> trackFactory) {
+        try {
+            FirstPage firstPage = loadFirstPage(httpInterface, playlistId, trackFactory);
+            ContinuationPages pages = firstPage.pages;
+
+            while (pages.hasNext()) {
+                firstPage.tracks.addAll(pages.load(httpInterface));
+            }
+
+            return new BasicAudioPlaylist(firstPage.name, firstPage.tracks,
+                findSelectedTrack(firstPage.tracks, selectedVideoId), false);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public AudioPlaylist load(HttpInterfaceManager httpInterfaceManager, String playlistId, String selectedVideoId,
+                              Function<AudioTrackInfo, AudioTrack> trackFactory) {
+        if (!pagedLoading) {
+            return YoutubePlaylistLoader.super.load(httpInterfaceManager, playlistId, selectedVideoId, trackFactory);
+        }
+
+        FirstPage firstPage;
+        AudioTrack selectedTrack;
+
+        try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+            firstPage = loadFirstPage(httpInterface, playlistId, trackFactory);
+            selectedTrack = findSelectedTrack(firstPage.tracks, selectedVideoId);
+
+            // The selected track must be in the returned list, so pages are loaded right away until it is found
+            while (selectedVideoId != null && selectedTrack == null && firstPage.pages.hasNext()) {
+                List<AudioTrack> page = firstPage.pages.load(httpInterface);
+                firstPage.tracks.addAll(page);
+                selectedTrack = findSelectedTrack(page, selectedVideoId);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        ContinuationPages pages = firstPage.pages;
+
+        return new PagedAudioPlaylist(firstPage.name, firstPage.tracks, selectedTrack, false, () -> {
+            if (!pages.hasNext()) {
+                return null;
+            }
+
+            try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+                return pages.load(httpInterface);
+            }
+        });
+    }
+
+    private FirstPage loadFirstPage(HttpInterface httpInterface, String playlistId,
+                                    Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
         HttpPost post = new HttpPost(BROWSE_URL);
         YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
             .withRootField("browseId", "VL" + playlistId)
@@ -45,16 +122,12 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
             HttpClientTools.assertSuccessWithContent(response, "playlist response");
             HttpClientTools.assertJsonContentType(response);
 
-            JsonBrowser json = JsonBrowser.parse(response.getEntity().getContent());
-            return buildPlaylist(httpInterface, json, selectedVideoId, trackFactory);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            JsonBrowser json = FIRST_PAGE_EXTRACTOR.extract(response.getEntity().getContent());
+            return buildFirstPage(json, trackFactory);
         }
     }
 
-    private AudioPlaylist buildPlaylist(HttpInterface httpInterface, JsonBrowser json, String selectedVideoId,
-                                        Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
-
+    private FirstPage buildFirstPage(JsonBrowser json, Function<AudioTrackInfo, AudioTrack> trackFactory) {
         String errorAlertMessage = findErrorAlert(json);
 
         if (errorAlertMessage != null) {
@@ -84,30 +157,9 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
 
         List<AudioTrack> tracks = new ArrayList<>();
         String continuationsToken = extractPlaylistTracks(playlistVideoList, tracks, trackFactory);
-        int loadCount = 0;
-        int pageCount = playlistPageCount;
-
-        // Also load the next pages, each result gives us a JSON with separate values for list html and next page loader html
-        while (continuationsToken != null && ++loadCount < pageCount) {
-            HttpPost post = new HttpPost(BROWSE_URL);
-            YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
-                .withRootField("continuation", continuationsToken)
-                .setAttribute(httpInterface);
-            StringEntity payload = new org.apache.hc.core5.http.io.entity.StringEntity(clientConfig.toJsonString(), org.apache.hc.core5.http.ContentType.APPLICATION_JSON);
-            post.setEntity(payload);
-            try (ClassicHttpResponse response = httpInterface.execute(post)) {
-                HttpClientTools.assertSuccessWithContent(response, "playlist response");
-
-                JsonBrowser continuationJson = JsonBrowser.parse(response.getEntity().getContent());
-
-                JsonBrowser playlistVideoListPage = continuationJson.get("continuationContents")
-                    .get("playlistVideoListContinuation");
 
-                continuationsToken = extractPlaylistTracks(playlistVideoListPage, tracks, trackFactory);
-            }
-        }
-
-        return new BasicAudioPlaylist(playlistName, tracks, findSelectedTrack(tracks, selectedVideoId), false);
+        return new FirstPage(playlistName, tracks,
+            new ContinuationPages(continuationsToken, playlistPageCount - 1, trackFactory));
     }
 
     private String findErrorAlert(JsonBrowser jsonResponse) {
@@ -189,6 +241,56 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
 
         return null;
     }
-}
 
+    private static class FirstPage {
+        private final String name;
+        private final List<AudioTrack> tracks;
+        private final ContinuationPages pages;
+
+        private FirstPage(String name, List<AudioTrack> tracks, ContinuationPages pages) {
+            this.name = name;
+            this.tracks = tracks;
+            this.pages = pages;
+        }
+    }
+
+    private class ContinuationPages {
+        private final Function<AudioTrackInfo, AudioTrack> trackFactory;
+        private String continuationsToken;
+        private int remainingPages;
+
+        private ContinuationPages(String continuationsToken, int remainingPages,
+                                  Function<AudioTrackInfo, AudioTrack> trackFactory) {
+            this.continuationsToken = continuationsToken;
+            this.remainingPages = remainingPages;
+            this.trackFactory = trackFactory;
+        }
+
+        private boolean hasNext() {
+            return continuationsToken != null && remainingPages > 0;
+        }
+
+        // Each result gives us a JSON with separate values for list html and next page loader html
+        private List<AudioTrack> load(HttpInterface httpInterface) throws IOException {
+            HttpPost post = new HttpPost(BROWSE_URL);
+            YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
+                .withRootField("continuation", continuationsToken)
+                .setAttribute(httpInterface);
+            StringEntity payload = new org.apache.hc.core5.http.io.entity.StringEntity(clientConfig.toJsonString(), org.apache.hc.core5.http.ContentType.APPLICATION_JSON);
+            post.setEntity(payload);
+            try (ClassicHttpResponse response = httpInterface.execute(post)) {
+                HttpClientTools.assertSuccessWithContent(response, "playlist response");
 
+                JsonBrowser continuationJson = CONTINUATION_EXTRACTOR.extract(response.getEntity().getContent());
+
+                JsonBrowser playlistVideoListPage = continuationJson.get("continuationContents")
+                    .get("playlistVideoListContinuation");
+
+                List<AudioTrack> tracks = new ArrayList<>();
+                continuationsToken = extractPlaylistTracks(playlistVideoListPage, tracks, trackFactory);
+                remainingPages--;
+                return tracks;
+            }
+        }
+    }
+}
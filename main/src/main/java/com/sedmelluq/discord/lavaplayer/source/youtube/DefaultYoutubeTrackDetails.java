@@ -32,6 +32,14 @@ public class DefaultYoutubeTrackDetails implements YoutubeTrackDetails {
         this.data = data;
     }
 
+    String getVideoId() {
+        return videoId;
+    }
+
+    YoutubeTrackJsonData getJsonData() {
+        return data;
+    }
+
     @Override
     public AudioTrackInfo getTrackInfo() {
         return loadTrackInfo();
@@ -40,6 +40,26 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
         }
     }
 
+    @Override
+    public YoutubeTrackDetails completeForPlayback(HttpInterface httpInterface, YoutubeTrackDetails details) {
+        if (details.getPlayerScript() != null) {
+            return details;
+        } else if (!(details instanceof DefaultYoutubeTrackDetails)) {
+            return null;
+        }
+
+        DefaultYoutubeTrackDetails defaultDetails = (DefaultYoutubeTrackDetails) details;
+
+        try {
+            YoutubeTrackJsonData data = augmentWithPlayerScript(defaultDetails.getJsonData(), httpInterface,
+                defaultDetails.getVideoId(), true);
+
+            return new DefaultYoutubeTrackDetails(defaultDetails.getVideoId(), data);
+        } catch (IOException e) {
+            throw ExceptionTools.toRuntimeException(e);
+        }
+    }
+
     private YoutubeTrackDetails load(
         HttpInterface httpInterface,
         String videoId,
@@ -47,7 +67,9 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
         YoutubeAudioSourceManager sourceManager,
         YoutubeClientConfig clientConfig
     ) throws IOException {
-        JsonBrowser mainInfo = loadTrackInfoFromInnertube(httpInterface, videoId, sourceManager, null, clientConfig);
+        // The raw text is kept for debug info, as the parsed response contains only the extracted parts
+        String mainText = loadTrackInfoTextFromInnertube(httpInterface, videoId, sourceManager, null, clientConfig);
+        JsonBrowser mainInfo = parseTrackInfoResponse(mainText, httpInterface, videoId, sourceManager, null, clientConfig);
 
         try {
             YoutubeTrackJsonData initialData = loadBaseResponse(mainInfo, httpInterface, videoId, sourceManager);
@@ -73,7 +95,7 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
         } catch (FriendlyException e) {
             throw e;
         } catch (Exception e) {
-            throw throwWithDebugInfo(log, e, "Error when extracting data", "mainJson", mainInfo.format());
+            throw throwWithDebugInfo(log, e, "Error when extracting data", "mainJson", mainText);
         }
     }
 
@@ -208,6 +230,17 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
         YoutubeAudioSourceManager sourceManager,
         InfoStatus infoStatus,
         YoutubeClientConfig clientOverride
+    ) throws IOException {
+        String responseText = loadTrackInfoTextFromInnertube(httpInterface, videoId, sourceManager, infoStatus, clientOverride);
+        return parseTrackInfoResponse(responseText, httpInterface, videoId, sourceManager, infoStatus, clientOverride);
+    }
+
+    protected String loadTrackInfoTextFromInnertube(
+        HttpInterface httpInterface,
+        String videoId,
+        YoutubeAudioSourceManager sourceManager,
+        InfoStatus infoStatus,
+        YoutubeClientConfig clientOverride
     ) throws IOException {
         if (cachedPlayerScript == null) fetchScript(videoId, httpInterface);
 
@@ -252,26 +285,35 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
         try (ClassicHttpResponse response = httpInterface.execute(post)) {
             HttpClientTools.assertSuccessWithContent(response, "video page response");
 
-            String responseText = EntityUtils.toString(response.getEntity(), UTF_8);
-
-            try {
-                return JsonBrowser.parse(responseText);
-            } catch (FriendlyException e) {
-                throw e;
-            } catch (Exception e) {
-                if ("Invalid status code for video page response: 400".equals(e.getMessage()) && clientOverride == null) {
-                    YoutubeClientConfig retryConfig = YoutubeClientConfig.WEB.copy()
-                        .withClientField("clientScreen", "EMBED")
-                        .withThirdPartyEmbedUrl("https://google.com");
+            return EntityUtils.toString(response.getEntity(), UTF_8);
+        } catch (ParseException e) {
+            throw new IOException(e);
+        }
+    }
 
-                    return loadTrackInfoFromInnertube(httpInterface, videoId, sourceManager, infoStatus, retryConfig);
-                }
+    protected JsonBrowser parseTrackInfoResponse(
+        String responseText,
+        HttpInterface httpInterface,
+        String videoId,
+        YoutubeAudioSourceManager sourceManager,
+        InfoStatus infoStatus,
+        YoutubeClientConfig clientOverride
+    ) throws IOException {
+        try {
+            return YoutubeTrackJsonData.PLAYER_RESPONSE_EXTRACTOR.extract(responseText);
+        } catch (FriendlyException e) {
+            throw e;
+        } catch (Exception e) {
+            if ("Invalid status code for video page response: 400".equals(e.getMessage()) && clientOverride == null) {
+                YoutubeClientConfig retryConfig = YoutubeClientConfig.WEB.copy()
+                    .withClientField("clientScreen", "EMBED")
+                    .withThirdPartyEmbedUrl("https://google.com");
 
-                throw new FriendlyException("Received unexpected response from YouTube.", SUSPICIOUS,
-                    new RuntimeException("Failed to parse: " + responseText, e));
+                return loadTrackInfoFromInnertube(httpInterface, videoId, sourceManager, infoStatus, retryConfig);
             }
-        } catch (ParseException e) {
-            throw new IOException(e);
+
+            throw new FriendlyException("Received unexpected response from YouTube.", SUSPICIOUS,
+                new RuntimeException("Failed to parse: " + responseText, e));
         }
     }
 
@@ -25,9 +25,13 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -214,6 +218,72 @@ public class YoutubeAccessTokenTracker {
         }
     }
 
+    /**
+     * @return The visitor id and access token with the times they were fetched at, for persisting them
+     */
+    public State getState() {
+        State state = new State();
+        state.accountId = getAccountId();
+
+        synchronized (visitorIdLock) {
+            state.visitorId = visitorId;
+            state.visitorIdUpdatedAt = lastVisitorIdUpdate;
+        }
+
+        synchronized (accessTokenLock) {
+            state.accessToken = accessToken;
+            state.accessTokenUpdatedAt = lastAccessTokenUpdate;
+            state.accessTokenRefreshInterval = accessTokenRefreshInterval;
+        }
+
+        return state;
+    }
+
+    /**
+     * Restore a previously persisted state. Values which would already have been refreshed by now are ignored, as are
+     * values which this tracker has already fetched itself. The access token is also ignored if it was issued for a
+     * different account than the one this tracker is configured with.
+     *
+     * @param state State returned by {@link #getState()}
+     */
+    public void restoreState(State state) {
+        long now = System.currentTimeMillis();
+
+        synchronized (visitorIdLock) {
+            if (visitorId == null && state.visitorId != null &&
+                now - state.visitorIdUpdatedAt < VISITOR_ID_REFRESH_INTERVAL) {
+
+                visitorId = state.visitorId;
+                lastVisitorIdUpdate = state.visitorIdUpdatedAt;
+            }
+        }
+
+        synchronized (accessTokenLock) {
+            if (accessToken == null && state.accessToken != null &&
+                now - state.accessTokenUpdatedAt < state.accessTokenRefreshInterval &&
+                Objects.equals(state.accountId, getAccountId())) {
+
+                accessToken = state.accessToken;
+                lastAccessTokenUpdate = state.accessTokenUpdatedAt;
+                accessTokenRefreshInterval = state.accessTokenRefreshInterval;
+            }
+        }
+    }
+
+    private String getAccountId() {
+        if (DataFormatTools.isNullOrEmpty(email)) {
+            return null;
+        }
+
+        // Only a hash of the email is persisted, it just has to tell whether the account changed
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(email.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public boolean isTokenFetchContext(HttpClientContext context) {
         return context.getAttribute(TOKEN_FETCH_CONTEXT_ATTRIBUTE) == Boolean.TRUE;
     }
@@ -518,6 +588,21 @@ public class YoutubeAccessTokenTracker {
         }
     }
 
+    /**
+     * Persistable state of the tracker. Times are in milliseconds since epoch.
+     */
+    public static class State {
+        /**
+         * Hash of the email of the account the access token was issued for, null if no account was configured.
+         */
+        public String accountId;
+        public String visitorId;
+        public long visitorIdUpdatedAt;
+        public String accessToken;
+        public long accessTokenUpdatedAt;
+        public long accessTokenRefreshInterval;
+    }
+
     protected static class CachedAuthScript {
         public final String clientId;
         public final String clientSecret;
@@ -4,6 +4,7 @@ import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
+import com.sedmelluq.discord.lavaplayer.tools.ExpiringLruCache;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.http.MultiHttpConfigurable;
@@ -15,6 +16,8 @@ import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import com.sedmelluq.lava.common.tools.ExecutorTools;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
@@ -26,8 +29,11 @@ import org.slf4j.LoggerFactory;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -43,6 +49,11 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
 public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfigurable {
     private static final Logger log = LoggerFactory.getLogger(YoutubeAudioSourceManager.class);
 
+    private static final int LOADED_DETAILS_CACHE_SIZE = 500;
+    private static final long LOADED_DETAILS_TTL = TimeUnit.MINUTES.toMillis(5);
+    private static final int SEGMENT_FETCH_POOL_SIZE = 16;
+    private static final int SEGMENT_FETCH_QUEUE_SIZE = 32;
+
     private final YoutubeSignatureResolver signatureResolver;
     private final HttpInterfaceManager httpInterfaceManager;
     private final ExtendedHttpConfigurable combinedHttpConfiguration;
@@ -55,6 +66,9 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     private final YoutubePlaylistLoader playlistLoader;
     private final YoutubeLinkRouter linkRouter;
     private final LoadingRoutes loadingRoutes;
+    private final ExpiringLruCache<String, YoutubeTrackDetails> loadedDetails;
+    private final ExecutorService segmentFetchExecutor;
+    private volatile YoutubeStateSnapshotStore snapshotStore;
 
     /**
      * Create an instance with default settings.
@@ -126,6 +140,9 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
         this.linkRouter = linkRouter;
         this.mixLoader = mixLoader;
         this.loadingRoutes = new LoadingRoutes();
+        this.loadedDetails = new ExpiringLruCache<>(LOADED_DETAILS_CACHE_SIZE);
+        this.segmentFetchExecutor = ExecutorTools.createEagerlyScalingExecutor(1, SEGMENT_FETCH_POOL_SIZE,
+            TimeUnit.SECONDS.toMillis(30), SEGMENT_FETCH_QUEUE_SIZE, new DaemonThreadFactory("yt-segment"));
 
         combinedHttpConfiguration = new MultiHttpConfigurable(Arrays.asList(
             httpInterfaceManager,
@@ -149,6 +166,30 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
         playlistLoader.setPlaylistPageCount(playlistPageCount);
     }
 
+    /**
+     * Enable keeping a snapshot of extracted player script ciphers, the visitor id and the access token in a local
+     * file. The snapshot is restored right away if the file exists, and written periodically and on shutdown, so that
+     * a restarted instance does not have to fetch all of it again before the first tracks can start.
+     *
+     * @param file         File to keep the snapshot in
+     * @param saveInterval Interval between periodic writes in milliseconds
+     */
+    public void enableStateSnapshots(Path file, long saveInterval) {
+        YoutubeSignatureCipherManager cipherManager = signatureResolver instanceof YoutubeSignatureCipherManager ?
+            (YoutubeSignatureCipherManager) signatureResolver : null;
+
+        YoutubeStateSnapshotStore store = new YoutubeStateSnapshotStore(file, cipherManager, accessTokenTracker);
+        store.restore();
+        store.startPeriodicSave(saveInterval);
+
+        YoutubeStateSnapshotStore previous = snapshotStore;
+        snapshotStore = store;
+
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
     @Override
     public String getSourceName() {
         return "youtube";
@@ -185,6 +226,13 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
 
     @Override
     public void shutdown() {
+        YoutubeStateSnapshotStore store = snapshotStore;
+
+        if (store != null) {
+            store.close();
+        }
+
+        ExecutorTools.shutdownExecutor(segmentFetchExecutor, "YouTube segment fetch");
         ExceptionTools.closeWithWarnings(httpInterfaceManager);
     }
 
@@ -248,12 +296,30 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
                 }
             }
 
+            loadedDetails.put(videoId, details, LOADED_DETAILS_TTL);
             return new YoutubeAudioTrack(details.getTrackInfo(), this);
         } catch (Exception e) {
             throw ExceptionTools.wrapUnfriendlyExceptions("Loading information for a YouTube track failed.", FAULT, e);
         }
     }
 
+    /**
+     * @param videoId ID of the video
+     * @return Details loaded for the video when the track was loaded, if they were loaded recently. They are removed
+     * from the cache, so they are used by only one playback.
+     */
+    YoutubeTrackDetails takeLoadedDetails(String videoId) {
+        return loadedDetails.remove(videoId);
+    }
+
+    /**
+     * @return Executor for fetching segments of fragmented MP4 tracks ahead of playback, shared by all tracks of this
+     *         source manager so the number of fetching threads stays bounded
+     */
+    ExecutorService getSegmentFetchExecutor() {
+        return segmentFetchExecutor;
+    }
+
     private YoutubeAudioTrack buildTrackFromInfo(AudioTrackInfo info) {
         return new YoutubeAudioTrack(info, this);
     }
@@ -269,8 +335,8 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
         public AudioItem playlist(String playlistId, String selectedVideoId) {
             log.debug("Starting to load playlist with ID {}", playlistId);
 
-            try (HttpInterface httpInterface = getHttpInterface()) {
-                return playlistLoader.load(httpInterface, playlistId, selectedVideoId,
+            try {
+                return playlistLoader.load(httpInterfaceManager, playlistId, selectedVideoId,
                     YoutubeAudioSourceManager.this::buildTrackFromInfo);
             } catch (Exception e) {
                 throw ExceptionTools.wrapUnfriendlyExceptions(e);
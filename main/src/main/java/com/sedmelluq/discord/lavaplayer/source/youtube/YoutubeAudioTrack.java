@@ -63,6 +63,8 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
             if (format.details.getType().getMimeType().endsWith("/webm")) {
                 processDelegate(new MatroskaAudioTrack(trackInfo, stream), localExecutor);
             } else {
+                // Lets fragmented files fetch upcoming fragments in parallel with their own connections
+                stream.enableRangeReads(sourceManager::getHttpInterface, sourceManager.getSegmentFetchExecutor());
                 processDelegate(new MpegAudioTrack(trackInfo, stream), localExecutor);
             }
         }
@@ -79,8 +81,12 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
     }
 
     private FormatWithUrl loadBestFormatWithUrl(HttpInterface httpInterface) throws Exception {
-        YoutubeTrackDetails details = sourceManager.getTrackDetailsLoader()
-            .loadDetails(httpInterface, getIdentifier(), true, sourceManager);
+        YoutubeTrackDetails details = reuseLoadedDetails(httpInterface);
+
+        if (details == null) {
+            details = sourceManager.getTrackDetailsLoader()
+                .loadDetails(httpInterface, getIdentifier(), true, sourceManager);
+        }
 
         // If the error reason is "Video unavailable" details will return null
         if (details == null) {
@@ -97,6 +103,21 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
         return new FormatWithUrl(format, signedUrl);
     }
 
+    private YoutubeTrackDetails reuseLoadedDetails(HttpInterface httpInterface) {
+        YoutubeTrackDetails details = sourceManager.takeLoadedDetails(getIdentifier());
+
+        if (details == null) {
+            return null;
+        }
+
+        try {
+            return sourceManager.getTrackDetailsLoader().completeForPlayback(httpInterface, details);
+        } catch (Exception e) {
+            log.debug("Could not reuse details loaded for track {}, loading them again.", getIdentifier(), e);
+            return null;
+        }
+    }
+
     @Override
     protected AudioTrack makeShallowClone() {
         return new YoutubeAudioTrack(trackInfo, sourceManager);
@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.PersistentHttpStream;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.core5.net.URIBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -121,6 +122,17 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
         }
     }
 
+    @Override
+    protected HttpGet getRangeRequest(long rangePosition, int rangeLength) {
+        try {
+            return new HttpGet(new URIBuilder(contentUrl)
+                .addParameter("range", rangePosition + "-" + (rangePosition + rangeLength - 1))
+                .build());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void handleRangeEnd(IOException exception, boolean attemptReconnect) throws IOException {
         if (exception != null) {
             if (!attemptReconnect || !HttpClientTools.isRetriableNetworkException(exception)) {
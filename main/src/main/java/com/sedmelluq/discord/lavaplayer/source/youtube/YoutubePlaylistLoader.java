@@ -1,10 +1,12 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
 import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 public interface YoutubePlaylistLoader {
@@ -12,4 +14,18 @@ public interface YoutubePlaylistLoader {
 
     AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                        Function<AudioTrackInfo, AudioTrack> trackFactory);
+
+    /**
+     * Load a playlist with interfaces from the given manager. Implementations may return before all pages have been
+     * loaded, in which case the remaining pages are loaded later with interfaces from the same manager. The default
+     * implementation loads all pages with a single interface.
+     */
+    default AudioPlaylist load(HttpInterfaceManager httpInterfaceManager, String playlistId, String selectedVideoId,
+                               Function<AudioTrackInfo, AudioTrack> trackFactory) {
+        try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+            return load(httpInterface, playlistId, selectedVideoId, trackFactory);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.tools.ThumbnailTools;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
@@ -33,6 +34,7 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
     private static final Logger log = LoggerFactory.getLogger(YoutubeSearchProvider.class);
 
     private final HttpInterfaceManager httpInterfaceManager;
+    private volatile SearchResultCache searchResultCache;
 
     public YoutubeSearchProvider() {
         this.httpInterfaceManager = HttpClientTools.createCookielessThreadLocalManager();
@@ -42,12 +44,29 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
         return httpInterfaceManager;
     }
 
+    /**
+     * @param searchResultCache Cache for search results, null (the default) to not cache them
+     */
+    public void setSearchResultCache(SearchResultCache searchResultCache) {
+        this.searchResultCache = searchResultCache;
+    }
+
     /**
      * @param query Search query.
      * @return Playlist of the first page of results.
      */
     @Override
     public AudioItem loadSearchResult(String query, Function<AudioTrackInfo, AudioTrack> trackFactory) {
+        SearchResultCache cache = searchResultCache;
+
+        if (cache == null) {
+            return performSearch(query, trackFactory);
+        }
+
+        return cache.search("youtube", query, trackFactory, () -> performSearch(query, trackFactory));
+    }
+
+    private AudioItem performSearch(String query, Function<AudioTrackInfo, AudioTrack> trackFactory) {
         log.debug("Performing a search with query {}", query);
 
         try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
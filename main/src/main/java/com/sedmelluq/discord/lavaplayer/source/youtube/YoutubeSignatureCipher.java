@@ -1,9 +1,18 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
 import javax.script.Invocable;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -14,6 +23,8 @@ public class YoutubeSignatureCipher {
     String nFunction = "";
     String scriptTimestamp = "";
     String rawScript = "";
+    private volatile long fetchedAt = System.currentTimeMillis();
+    private volatile CompiledNFunction compiledNFunction;
 
     /**
      * @param text Text to apply the cipher on
@@ -45,11 +56,88 @@ public class YoutubeSignatureCipher {
         return builder.toString();
     }
 
+    /**
+     * Transform the n parameter with the n function of this cipher. The function is compiled on first use and the
+     * compiled function is shared by all threads, each call runs in a context of the calling thread. Globals which the
+     * function assigns without declaring them are kept in a scope of the call, so calls do not see each other's.
+     *
+     * @param text Text to transform
+     * @return The result of the n parameter transformation
+     * @throws ScriptException If the n function could not be compiled or executed
+     */
+    public String transform(String text) throws ScriptException {
+        CompiledNFunction function = getCompiledNFunction();
+        Context context = enterContext();
+
+        try {
+            Scriptable callScope = context.newObject(function.scope);
+            callScope.setPrototype(function.scope);
+            callScope.setParentScope(null);
+
+            Object result = function.function.call(context, callScope, callScope, new Object[] { text });
+            return Context.toString(result);
+        } catch (RhinoException e) {
+            throw new ScriptException(e.getMessage());
+        } finally {
+            Context.exit();
+        }
+    }
+
+    private CompiledNFunction getCompiledNFunction() throws ScriptException {
+        CompiledNFunction function = compiledNFunction;
+
+        if (function == null) {
+            synchronized (this) {
+                function = compiledNFunction;
+
+                if (function == null) {
+                    function = compileNFunction(nFunction);
+                    compiledNFunction = function;
+                }
+            }
+        }
+
+        return function;
+    }
+
+    private static CompiledNFunction compileNFunction(String source) throws ScriptException {
+        Context context = enterContext();
+
+        try {
+            ScriptableObject scope = context.initSafeStandardObjects();
+            Script script = context.compileString("var n=" + source, "n", 1, null);
+            script.exec(context, scope);
+
+            Object function = ScriptableObject.getProperty(scope, "n");
+
+            if (!(function instanceof Function)) {
+                throw new ScriptException("Extracted n function did not evaluate to a function.");
+            }
+
+            // The scope is shared between threads, each call writes its undeclared globals into its own child scope
+            scope.sealObject();
+            return new CompiledNFunction((Function) function, scope);
+        } catch (RhinoException e) {
+            throw new ScriptException(e.getMessage());
+        } finally {
+            Context.exit();
+        }
+    }
+
+    private static Context enterContext() {
+        Context context = ContextFactory.getGlobal().enterContext();
+        // Same language level as the script engine, player scripts use ES6 syntax
+        context.setLanguageVersion(Context.VERSION_ES6);
+        return context;
+    }
+
     /**
      * @param text         Text to transform
      * @param scriptEngine JavaScript engine to execute function
      * @return The result of the n parameter transformation
+     * @deprecated Evaluates the n function again on every call, use {@link #transform(String)}
      */
+    @Deprecated
     public String transform(String text, ScriptEngine scriptEngine) throws ScriptException, NoSuchMethodException {
         String transformed;
 
@@ -66,6 +154,27 @@ public class YoutubeSignatureCipher {
         operations.add(operation);
     }
 
+    /**
+     * @return The operations of this cipher, in the order they are applied
+     */
+    public List<YoutubeCipherOperation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * @return Extracted "n" function, empty if there is none
+     */
+    public String getNFunction() {
+        return nFunction;
+    }
+
+    /**
+     * @return The timestamp in cipher
+     */
+    public String getTimestamp() {
+        return scriptTimestamp;
+    }
+
     /**
      * @return True if the cipher contains no operations.
      */
@@ -78,6 +187,7 @@ public class YoutubeSignatureCipher {
      */
     public void setNFunction(String nFunction) {
         this.nFunction = nFunction;
+        this.compiledNFunction = null;
     }
 
     /**
@@ -87,10 +197,34 @@ public class YoutubeSignatureCipher {
         scriptTimestamp = timestamp;
     }
 
+    /**
+     * @return Time in milliseconds since epoch when the script of this cipher was fetched
+     */
+    public long getFetchedAt() {
+        return fetchedAt;
+    }
+
+    /**
+     * @param fetchedAt Time in milliseconds since epoch when the script of this cipher was fetched
+     */
+    public void setFetchedAt(long fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+
     /**
      * @param script Raw script
      */
     public void setRawScript(String script) {
         rawScript = script;
     }
+
+    private static class CompiledNFunction {
+        private final Function function;
+        private final Scriptable scope;
+
+        private CompiledNFunction(Function function, Scriptable scope) {
+            this.function = function;
+            this.scope = scope;
+        }
+    }
 }
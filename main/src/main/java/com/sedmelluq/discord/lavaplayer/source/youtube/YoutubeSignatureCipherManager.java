@@ -1,19 +1,19 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
+import com.sedmelluq.discord.lavaplayer.tools.ExpiringLruCache;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import org.apache.commons.io.IOUtils;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.core5.net.URIBuilder;
-import org.mozilla.javascript.engine.RhinoScriptEngineFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -21,11 +21,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -80,20 +83,39 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
     );
 
     private static final Pattern signatureExtraction = Pattern.compile("/s/([^/]+)/");
+    private static final int N_PARAMETER_CACHE_SIZE = 2000;
+    private static final int DEFAULT_CIPHER_CACHE_SIZE = 100;
+    private static final long DEFAULT_CIPHER_TTL = TimeUnit.DAYS.toMillis(1);
+    private static final int DUMPED_SCRIPT_URLS_LIMIT = 100;
 
-    private final ConcurrentMap<String, YoutubeSignatureCipher> cipherCache;
+    private final ExpiringLruCache<String, YoutubeSignatureCipher> cipherCache;
+    private final ConcurrentMap<String, CompletableFuture<YoutubeSignatureCipher>> pendingCipherLoads;
     private final Set<String> dumpedScriptUrls;
-    private final ConcurrentLinkedQueue<ScriptEngine> scriptEnginePool;
-    private final Object cipherLoadLock;
+    private final ExpiringLruCache<String, String> nParameterCache;
+    private volatile long cipherTtl = DEFAULT_CIPHER_TTL;
 
     /**
      * Create a new signature cipher manager
      */
     public YoutubeSignatureCipherManager() {
-        this.cipherCache = new ConcurrentHashMap<>();
+        this.cipherCache = new ExpiringLruCache<>(DEFAULT_CIPHER_CACHE_SIZE);
+        this.pendingCipherLoads = new ConcurrentHashMap<>();
         this.dumpedScriptUrls = ConcurrentHashMap.newKeySet();
-        this.scriptEnginePool = new ConcurrentLinkedQueue<>();
-        this.cipherLoadLock = new Object();
+        this.nParameterCache = new ExpiringLruCache<>(N_PARAMETER_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize Maximum number of player script ciphers to keep, least recently used ones are evicted first
+     */
+    public void setCipherCacheSize(int cacheSize) {
+        cipherCache.setMaximumSize(cacheSize);
+    }
+
+    /**
+     * @param ttl Time in milliseconds after which a cached cipher is loaded again
+     */
+    public void setCipherTtl(long ttl) {
+        this.cipherTtl = ttl;
     }
 
     /**
@@ -120,17 +142,9 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
 
         if (!DataFormatTools.isNullOrEmpty(nParameter)) {
             try {
-                ScriptEngine engine = scriptEnginePool.poll();
-                if (engine == null) {
-                    engine = new RhinoScriptEngineFactory().getScriptEngine();
-                }
-                try {
-                    uri.setParameter("n", cipher.transform(nParameter, engine));
-                } finally {
-                    scriptEnginePool.add(engine);
-                }
-            } catch (ScriptException | NoSuchMethodException e) {
-                dumpProblematicScript(cipherCache.get(playerScript).rawScript, playerScript, String.format("Can't transform n parameter %s with %s n function", nParameter, cipher.nFunction));
+                uri.setParameter("n", transformNParameter(playerScript, cipher, nParameter));
+            } catch (ScriptException e) {
+                dumpProblematicScript(cipher.rawScript, playerScript, String.format("Can't transform n parameter %s with %s n function", nParameter, cipher.nFunction));
             }
         }
 
@@ -141,6 +155,21 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
         }
     }
 
+    private String transformNParameter(String playerScript, YoutubeSignatureCipher cipher, String nParameter)
+        throws ScriptException {
+
+        // All formats of a track share the same n parameter, so most transforms are repeats
+        String cacheKey = playerScript + '\u0000' + nParameter;
+        String transformed = nParameterCache.get(cacheKey);
+
+        if (transformed == null) {
+            transformed = cipher.transform(nParameter);
+            nParameterCache.put(cacheKey, transformed, Long.MAX_VALUE);
+        }
+
+        return transformed;
+    }
+
     /**
      * Produces a valid dash XML URL from the possibly ciphered URL.
      *
@@ -162,35 +191,99 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
         return matcher.replaceFirst("/signature/" + cipher.apply(matcher.group(1)) + "/");
     }
 
+    /**
+     * @return Ciphers currently in the cache by the URL of their player script
+     */
+    public Map<String, YoutubeSignatureCipher> getCachedCiphers() {
+        return cipherCache.snapshot();
+    }
+
+    /**
+     * @param cipherScriptUrl URL of the player script
+     * @return True if the cipher for the script is in the cache
+     */
+    public boolean hasCachedCipher(String cipherScriptUrl) {
+        return cipherCache.get(cipherScriptUrl) != null;
+    }
+
+    /**
+     * Add a cipher to the cache. It expires when the TTL counted from the fetch time of the cipher runs out, a cipher
+     * which is already older than that is not added.
+     *
+     * @param cipherScriptUrl URL of the player script of the cipher
+     * @param cipher          Cipher to add to the cache, for example one restored from a snapshot
+     */
+    public void addCachedCipher(String cipherScriptUrl, YoutubeSignatureCipher cipher) {
+        long remainingTtl = cipherTtl - Math.max(0, System.currentTimeMillis() - cipher.getFetchedAt());
+
+        if (remainingTtl > 0) {
+            cipherCache.put(cipherScriptUrl, cipher, remainingTtl);
+        }
+    }
+
     @Override
     public YoutubeSignatureCipher getExtractedScript(HttpInterface httpInterface, String cipherScriptUrl) throws IOException {
         YoutubeSignatureCipher cipherKey = cipherCache.get(cipherScriptUrl);
 
-        if (cipherKey == null) {
-            synchronized (cipherLoadLock) {
-                cipherKey = cipherCache.get(cipherScriptUrl);
-                if (cipherKey != null) {
-                    return cipherKey;
-                }
-
-                log.debug("Parsing player script {}", cipherScriptUrl);
-
-                try (ClassicHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
-                    validateResponseCode(cipherScriptUrl, response);
-
-                    cipherKey = extractFromScript(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8), cipherScriptUrl);
-                    
-                    if (cipherCache.size() > 100) {
-                        cipherCache.clear();
-                        dumpedScriptUrls.clear();
-                    }
-                    
-                    cipherCache.put(cipherScriptUrl, cipherKey);
-                }
+        if (cipherKey != null) {
+            return cipherKey;
+        }
+
+        // Concurrent requests for the same script share one load, different scripts load in parallel
+        CompletableFuture<YoutubeSignatureCipher> load = new CompletableFuture<>();
+        CompletableFuture<YoutubeSignatureCipher> existingLoad = pendingCipherLoads.putIfAbsent(cipherScriptUrl, load);
+
+        if (existingLoad != null) {
+            return awaitCipherLoad(existingLoad, cipherScriptUrl);
+        }
+
+        try {
+            cipherKey = cipherCache.get(cipherScriptUrl);
+
+            if (cipherKey == null) {
+                cipherKey = loadCipher(httpInterface, cipherScriptUrl);
+                cipherCache.put(cipherScriptUrl, cipherKey, cipherTtl);
             }
+
+            load.complete(cipherKey);
+            return cipherKey;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingCipherLoads.remove(cipherScriptUrl, load);
         }
+    }
 
-        return cipherKey;
+    private YoutubeSignatureCipher loadCipher(HttpInterface httpInterface, String cipherScriptUrl) throws IOException {
+        log.debug("Parsing player script {}", cipherScriptUrl);
+
+        try (ClassicHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
+            validateResponseCode(cipherScriptUrl, response);
+
+            return extractFromScript(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8), cipherScriptUrl);
+        }
+    }
+
+    private YoutubeSignatureCipher awaitCipherLoad(CompletableFuture<YoutubeSignatureCipher> load, String cipherScriptUrl)
+        throws IOException {
+
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for player script " + cipherScriptUrl);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw new IOException("Loading player script " + cipherScriptUrl + " failed.", cause);
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException("Loading player script " + cipherScriptUrl + " failed.", cause);
+            }
+        }
     }
 
     private void validateResponseCode(String cipherScriptUrl, ClassicHttpResponse response) throws IOException {
@@ -210,6 +303,10 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
     }
 
     private void dumpProblematicScript(String script, String sourceUrl, String issue) {
+        if (dumpedScriptUrls.size() > DUMPED_SCRIPT_URLS_LIMIT) {
+            dumpedScriptUrls.clear();
+        }
+
         if (!dumpedScriptUrls.add(sourceUrl)) {
             return;
         }
@@ -0,0 +1,248 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube;
+
+import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import com.sedmelluq.lava.common.tools.ExecutorTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keeps a snapshot of the state of a YouTube source manager which is expensive to build up after a restart in a local
+ * file: extracted player script ciphers, the visitor id and the access token with their fetch times. The snapshot is
+ * written periodically and when the store is closed, always to a temporary file first which then replaces the previous
+ * snapshot, so a crash during writing never leaves a partial snapshot behind.
+ * <p>
+ * The snapshot contains the access token of the configured account, so the file should be protected accordingly. A
+ * hash of the account email is stored with it, so the token is not restored after the account has been changed.
+ */
+public class YoutubeStateSnapshotStore implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(YoutubeStateSnapshotStore.class);
+
+    private static final int SNAPSHOT_VERSION = 2;
+
+    private final Path file;
+    private final YoutubeSignatureCipherManager cipherManager;
+    private final YoutubeAccessTokenTracker tokenTracker;
+    private final Object saveLock = new Object();
+    private volatile ScheduledExecutorService saveExecutor;
+
+    /**
+     * @param file          File to keep the snapshot in
+     * @param cipherManager Cipher manager whose ciphers to persist, may be null
+     * @param tokenTracker  Token tracker whose state to persist, may be null
+     */
+    public YoutubeStateSnapshotStore(Path file, YoutubeSignatureCipherManager cipherManager,
+                                     YoutubeAccessTokenTracker tokenTracker) {
+        this.file = file;
+        this.cipherManager = cipherManager;
+        this.tokenTracker = tokenTracker;
+    }
+
+    /**
+     * Restore the state from the snapshot file if it exists. A snapshot which cannot be read is ignored.
+     *
+     * @return True if a snapshot was restored
+     */
+    public boolean restore() {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file))) {
+            readSnapshot(new DataInputStream(stream));
+            return true;
+        } catch (NoSuchFileException e) {
+            log.debug("No YouTube state snapshot at {}.", file);
+            return false;
+        } catch (Exception e) {
+            log.warn("Failed to restore YouTube state snapshot from {}, starting without it.", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Write the current state to the snapshot file.
+     *
+     * @throws IOException When writing the file failed
+     */
+    public void save() throws IOException {
+        synchronized (saveLock) {
+            Path directory = file.toAbsolutePath().getParent();
+            Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try {
+                try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+                    DataOutputStream output = new DataOutputStream(stream);
+                    writeSnapshot(output);
+                    output.flush();
+                }
+
+                try {
+                    Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Start writing the snapshot periodically in a background thread.
+     *
+     * @param interval Interval between writes in milliseconds
+     */
+    public synchronized void startPeriodicSave(long interval) {
+        if (saveExecutor != null) {
+            return;
+        }
+
+        saveExecutor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("yt-snapshot"));
+        saveExecutor.scheduleWithFixedDelay(this::saveWithWarnings, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop periodic writing and write the snapshot one last time.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (saveExecutor != null) {
+                ExecutorTools.shutdownExecutor(saveExecutor, "YouTube state snapshot");
+                saveExecutor = null;
+            }
+        }
+
+        saveWithWarnings();
+    }
+
+    private void saveWithWarnings() {
+        try {
+            save();
+        } catch (Exception e) {
+            log.warn("Failed to save YouTube state snapshot to {}.", file, e);
+        }
+    }
+
+    private void writeSnapshot(DataOutput output) throws IOException {
+        output.write(SNAPSHOT_VERSION);
+
+        YoutubeAccessTokenTracker.State state = tokenTracker != null ? tokenTracker.getState() : null;
+        output.writeBoolean(state != null);
+
+        if (state != null) {
+            DataFormatTools.writeNullableText(output, state.accountId);
+            DataFormatTools.writeNullableText(output, state.visitorId);
+            output.writeLong(state.visitorIdUpdatedAt);
+            DataFormatTools.writeNullableText(output, state.accessToken);
+            output.writeLong(state.accessTokenUpdatedAt);
+            output.writeLong(state.accessTokenRefreshInterval);
+        }
+
+        Map<String, YoutubeSignatureCipher> ciphers = cipherManager != null ? cipherManager.getCachedCiphers() : Map.of();
+        output.writeInt(ciphers.size());
+
+        for (Map.Entry<String, YoutubeSignatureCipher> entry : ciphers.entrySet()) {
+            YoutubeSignatureCipher cipher = entry.getValue();
+
+            output.writeUTF(entry.getKey());
+            output.writeUTF(cipher.getTimestamp());
+            output.writeLong(cipher.getFetchedAt());
+            writeLongText(output, cipher.getNFunction());
+            output.writeInt(cipher.getOperations().size());
+
+            for (YoutubeCipherOperation operation : cipher.getOperations()) {
+                output.write(operation.type.ordinal());
+                output.writeInt(operation.parameter);
+            }
+        }
+    }
+
+    private void readSnapshot(DataInput input) throws IOException {
+        int version = input.readUnsignedByte();
+
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ".");
+        }
+
+        if (input.readBoolean()) {
+            YoutubeAccessTokenTracker.State state = new YoutubeAccessTokenTracker.State();
+            state.accountId = DataFormatTools.readNullableText(input);
+            state.visitorId = DataFormatTools.readNullableText(input);
+            state.visitorIdUpdatedAt = input.readLong();
+            state.accessToken = DataFormatTools.readNullableText(input);
+            state.accessTokenUpdatedAt = input.readLong();
+            state.accessTokenRefreshInterval = input.readLong();
+
+            if (tokenTracker != null) {
+                tokenTracker.restoreState(state);
+            }
+        }
+
+        int cipherCount = input.readInt();
+        YoutubeCipherOperationType[] types = YoutubeCipherOperationType.values();
+
+        for (int i = 0; i < cipherCount; i++) {
+            String scriptUrl = input.readUTF();
+            YoutubeSignatureCipher cipher = new YoutubeSignatureCipher();
+            cipher.setTimestamp(input.readUTF());
+            cipher.setFetchedAt(input.readLong());
+            cipher.setNFunction(readLongText(input));
+
+            int operationCount = input.readInt();
+
+            for (int j = 0; j < operationCount; j++) {
+                int type = input.readUnsignedByte();
+
+                if (type >= types.length) {
+                    throw new IOException("Unknown cipher operation type " + type + ".");
+                }
+
+                cipher.addOperation(new YoutubeCipherOperation(types[type], input.readInt()));
+            }
+
+            if (cipherManager != null) {
+                cipherManager.addCachedCipher(scriptUrl, cipher);
+            }
+        }
+
+        log.info("Restored YouTube state snapshot from {} with {} player script ciphers.", file, cipherCount);
+    }
+
+    private static void writeLongText(DataOutput output, String text) throws IOException {
+        // The n function can be longer than what writeUTF supports
+        byte[] bytes = text.getBytes(UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readLongText(DataInput input) throws IOException {
+        int length = input.readInt();
+
+        if (length < 0) {
+            throw new IOException("Negative text length " + length + ".");
+        }
+
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
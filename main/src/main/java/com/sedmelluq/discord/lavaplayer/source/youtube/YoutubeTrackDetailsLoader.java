@@ -4,4 +4,16 @@ import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 
 public interface YoutubeTrackDetailsLoader {
     YoutubeTrackDetails loadDetails(HttpInterface httpInterface, String videoId, boolean requireFormats, YoutubeAudioSourceManager sourceManager);
+
+    /**
+     * Make details which were loaded without requiring formats usable for playback, so that they do not have to be
+     * loaded again when the track starts.
+     *
+     * @param httpInterface HTTP interface to use for any additional requests
+     * @param details       Details loaded earlier
+     * @return Details usable for playback, or null if they have to be loaded again
+     */
+    default YoutubeTrackDetails completeForPlayback(HttpInterface httpInterface, YoutubeTrackDetails details) {
+        return details.getPlayerScript() != null ? details : null;
+    }
 }
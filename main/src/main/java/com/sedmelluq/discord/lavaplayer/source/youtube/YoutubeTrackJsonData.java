@@ -1,6 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,6 +13,16 @@ import static com.sedmelluq.discord.lavaplayer.tools.JsonBrowser.NULL_BROWSER;
 public class YoutubeTrackJsonData {
     private static final Logger log = LoggerFactory.getLogger(DefaultYoutubeTrackDetailsLoader.class);
 
+    /**
+     * Extracts the parts of a player response which are used for track info and formats, the rest of the response (which
+     * is most of it) is skipped without being parsed into a tree.
+     */
+    public static final JsonPathExtractor PLAYER_RESPONSE_EXTRACTOR = new JsonPathExtractor(
+        "/playabilityStatus",
+        "/videoDetails",
+        "/streamingData"
+    );
+
     public final JsonBrowser playerResponse;
     public final JsonBrowser polymerArguments;
     public final String playerScriptUrl;
@@ -32,7 +43,8 @@ public class YoutubeTrackJsonData {
             JsonBrowser playerResponse = NULL_BROWSER;
 
             List<JsonBrowser> json = result.values();
-            JsonBrowser lastElement = json.get(result.values().size() - 1);
+            // The extracted response is empty if none of its parts were present
+            JsonBrowser lastElement = json.isEmpty() ? NULL_BROWSER : json.get(json.size() - 1);
             if (!lastElement.get("page").isNull()) {
                 for (JsonBrowser child : result.values()) {
                     if (child.isMap()) {
@@ -80,7 +92,7 @@ public class YoutubeTrackJsonData {
 
     private static JsonBrowser parsePlayerResponse(String playerResponseText) {
         try {
-            return JsonBrowser.parse(playerResponseText);
+            return PLAYER_RESPONSE_EXTRACTOR.extract(playerResponseText);
         } catch (Exception e) {
             throw throwWithDebugInfo(log, e, "Failed to parse player_response", "value", playerResponseText);
         }
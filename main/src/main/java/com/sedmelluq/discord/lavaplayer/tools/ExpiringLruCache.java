@@ -0,0 +1,141 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size bounded cache which evicts the least recently used entry when full and treats entries older than their time
+ * to live as absent. Expired entries are removed lazily when they are accessed or when the cache is trimmed. All
+ * operations are synchronized on the cache instance.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class ExpiringLruCache<K, V> {
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private volatile int maximumSize;
+
+    /**
+     * @param maximumSize Maximum number of entries to keep
+     */
+    public ExpiringLruCache(int maximumSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.maximumSize = Math.max(1, maximumSize);
+    }
+
+    /**
+     * @param key Key of the entry
+     * @return The value for the key, or null if there is no entry or it has expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        } else if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.value;
+    }
+
+    /**
+     * @param key       Key of the entry
+     * @param value     Value of the entry
+     * @param ttlMillis Time in milliseconds after which the entry expires, Long.MAX_VALUE to never expire
+     */
+    public synchronized void put(K key, V value, long ttlMillis) {
+        long expiresAt = ttlMillis >= Long.MAX_VALUE / 1_000_000L ? Long.MAX_VALUE :
+            System.nanoTime() + ttlMillis * 1_000_000L;
+
+        entries.put(key, new Entry<>(value, expiresAt));
+        trim();
+    }
+
+    /**
+     * @param key Key of the entry to remove
+     * @return The removed value, or null if there was none
+     */
+    public synchronized V remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return Number of entries currently held, including the ones which have expired but not been removed yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Copy of the entries which have not expired, from the least to the most recently used
+     */
+    public synchronized Map<K, V> snapshot() {
+        long now = System.nanoTime();
+        Map<K, V> copy = new LinkedHashMap<>();
+
+        for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+            if (!entry.getValue().isExpired(now)) {
+                copy.put(entry.getKey(), entry.getValue().value);
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * @param maximumSize New maximum number of entries, excess entries are evicted immediately
+     */
+    public synchronized void setMaximumSize(int maximumSize) {
+        this.maximumSize = Math.max(1, maximumSize);
+        trim();
+    }
+
+    /**
+     * Remove all expired entries.
+     */
+    public synchronized void removeExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private void trim() {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+}
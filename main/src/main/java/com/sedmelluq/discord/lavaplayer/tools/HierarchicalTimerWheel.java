@@ -0,0 +1,223 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for a large number of deadlines of which most are cancelled or rescheduled before they are
+ * due. Scheduling and cancelling are constant time, and advancing the wheel only touches the deadlines which are due
+ * and the ones which move down to a finer level. Tasks run at the first tick at or after their deadline. The wheel does
+ * not run on its own, {@link #advance(long)} has to be called periodically, usually once per tick.
+ */
+public class HierarchicalTimerWheel {
+    private static final Logger log = LoggerFactory.getLogger(HierarchicalTimerWheel.class);
+
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOT_COUNT = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 4;
+
+    private final long tickMillis;
+    private final Timeout[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  Duration of one tick in milliseconds
+     * @param startMillis Current time in milliseconds
+     */
+    public HierarchicalTimerWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new Timeout[LEVEL_COUNT][SLOT_COUNT];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * @return Duration of one tick in milliseconds
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * @return Number of scheduled tasks
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param deadlineMillis Time in milliseconds when the task is due, a time which has passed means the next tick
+     * @param task           Task to run when the deadline is reached, it runs on the thread which advances the wheel
+     * @return Handle for cancelling the task
+     */
+    public synchronized Timeout schedule(long deadlineMillis, Runnable task) {
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        Timeout timeout = new Timeout(this, deadlineTick, task);
+        insert(timeout, null);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Advance the wheel to the specified time and run all tasks that became due. The tasks are run after the wheel has
+     * been updated, so they can schedule new tasks.
+     *
+     * @param nowMillis Current time in milliseconds
+     */
+    public void advance(long nowMillis) {
+        List<Timeout> due = new ArrayList<>();
+
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+
+            while (currentTick < targetTick) {
+                currentTick++;
+
+                for (int level = LEVEL_COUNT - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (LEVEL_BITS * level)) - 1)) == 0) {
+                        cascade(level, due);
+                    }
+                }
+
+                collect(slots[0], (int) (currentTick & SLOT_MASK), due);
+            }
+        }
+
+        for (Timeout timeout : due) {
+            try {
+                timeout.task.run();
+            } catch (Throwable e) {
+                log.error("Scheduled task {} threw an exception.", timeout.task, e);
+                ExceptionTools.rethrowErrors(e);
+            }
+        }
+    }
+
+    private void cascade(int level, List<Timeout> due) {
+        int slot = (int) ((currentTick >>> (LEVEL_BITS * level)) & SLOT_MASK);
+        Timeout timeout = slots[level][slot];
+        slots[level][slot] = null;
+
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.previous = null;
+            timeout.next = null;
+            insert(timeout, due);
+            timeout = next;
+        }
+    }
+
+    private void collect(Timeout[] level, int slot, List<Timeout> due) {
+        Timeout timeout = level[slot];
+        level[slot] = null;
+
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.detach();
+            due.add(timeout);
+            size--;
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout timeout, List<Timeout> due) {
+        if (timeout.deadlineTick <= currentTick && due != null) {
+            timeout.detach();
+            due.add(timeout);
+            size--;
+            return;
+        }
+
+        int level = 0;
+
+        // The level is the finest one where the deadline is in the same rotation of the next level as the current tick,
+        // which guarantees that its slot is cascaded or fired after the current tick.
+        while (level < LEVEL_COUNT - 1 &&
+            (timeout.deadlineTick >>> (LEVEL_BITS * (level + 1))) != (currentTick >>> (LEVEL_BITS * (level + 1)))) {
+            level++;
+        }
+
+        int slot;
+
+        if ((timeout.deadlineTick >>> (LEVEL_BITS * LEVEL_COUNT)) != (currentTick >>> (LEVEL_BITS * LEVEL_COUNT))) {
+            // Beyond the current rotation of the coarsest level, park it in the slot which is cascaded when the next
+            // rotation starts, as that is not after the deadline, and reinsert it from there
+            slot = 0;
+        } else {
+            slot = (int) ((timeout.deadlineTick >>> (LEVEL_BITS * level)) & SLOT_MASK);
+        }
+
+        timeout.slots = slots[level];
+        timeout.slot = slot;
+        timeout.next = slots[level][slot];
+
+        if (timeout.next != null) {
+            timeout.next.previous = timeout;
+        }
+
+        slots[level][slot] = timeout;
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.slots == null) {
+            return false;
+        }
+
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            timeout.slots[timeout.slot] = timeout.next;
+        }
+
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+
+        timeout.detach();
+        size--;
+        return true;
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public static class Timeout {
+        private final HierarchicalTimerWheel wheel;
+        private final long deadlineTick;
+        private final Runnable task;
+        private Timeout[] slots;
+        private int slot;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(HierarchicalTimerWheel wheel, long deadlineTick, Runnable task) {
+            this.wheel = wheel;
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+
+        /**
+         * @return Time in milliseconds at the tick when the task is due
+         */
+        public long getDeadline() {
+            return deadlineTick * wheel.tickMillis;
+        }
+
+        /**
+         * @return True if the task was cancelled, false if it has already run or been cancelled
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        private void detach() {
+            slots = null;
+            previous = null;
+            next = null;
+        }
+    }
+}
@@ -334,7 +334,11 @@ public class JsonBrowser {
             .build();
     }
 
-    private static JsonBrowser create(JsonNode node) {
+    static ObjectMapper mapper() {
+        return mapper;
+    }
+
+    static JsonBrowser create(JsonNode node) {
         return node != null ? new JsonBrowser(node) : NULL_BROWSER;
     }
 }
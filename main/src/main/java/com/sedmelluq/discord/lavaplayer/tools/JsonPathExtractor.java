@@ -0,0 +1,304 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Extracts only selected parts of a JSON document while streaming through it, without building a tree of the whole
+ * document. Parts are selected with JSON pointers (for example <code>/videoDetails</code> or
+ * <code>/contents/0/title</code>), a <code>*</code> segment matches every element of an array or every entry of an
+ * object. The result is a {@link JsonBrowser} over a sparse copy of the document which contains only the selected
+ * values at their original locations, so code written for the full document can navigate it unchanged. Parsing stops
+ * as soon as all pointers without wildcards have been found, unless a pointer with a wildcard may still match later in
+ * the document.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class JsonPathExtractor {
+    private final PathNode root;
+    private final int exactPointerCount;
+
+    /**
+     * @param pointers JSON pointers of the values to extract
+     */
+    public JsonPathExtractor(String... pointers) {
+        this.root = new PathNode(false);
+
+        int exactCount = 0;
+
+        for (String pointer : pointers) {
+            if (root.add(parsePointer(pointer), 0)) {
+                exactCount++;
+            }
+        }
+
+        root.mergeWildcards();
+        this.exactPointerCount = exactCount;
+    }
+
+    /**
+     * @param json JSON text
+     * @return Browser over the extracted values
+     * @throws IOException When parsing the JSON failed
+     */
+    public JsonBrowser extract(String json) throws IOException {
+        try (JsonParser parser = JsonBrowser.mapper().createParser(json)) {
+            return extract(parser);
+        }
+    }
+
+    /**
+     * @param stream Stream of JSON text, closed by this method once parsing has finished or failed
+     * @return Browser over the extracted values
+     * @throws IOException When parsing the JSON failed
+     */
+    public JsonBrowser extract(InputStream stream) throws IOException {
+        try (JsonParser parser = JsonBrowser.mapper().createParser(stream)) {
+            return extract(parser);
+        }
+    }
+
+    private JsonBrowser extract(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+
+        if (token == null) {
+            return JsonBrowser.NULL_BROWSER;
+        }
+
+        Extraction extraction = new Extraction(parser, root, exactPointerCount);
+        JsonNode result = extraction.readValue(root);
+
+        if (result == null) {
+            if (token == JsonToken.START_OBJECT) {
+                result = JsonBrowser.mapper().createObjectNode();
+            } else if (token == JsonToken.START_ARRAY) {
+                result = JsonBrowser.mapper().createArrayNode();
+            }
+        }
+
+        return JsonBrowser.create(result);
+    }
+
+    private static String[] parsePointer(String pointer) {
+        if (pointer.isEmpty()) {
+            return new String[0];
+        } else if (pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("JSON pointer must start with a slash: " + pointer);
+        }
+
+        String[] segments = pointer.substring(1).split("/", -1);
+
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = segments[i].replace("~1", "/").replace("~0", "~");
+        }
+
+        return segments;
+    }
+
+    private static class PathNode {
+        private final Map<String, PathNode> children = new LinkedHashMap<>();
+        private final boolean exact;
+        private boolean terminal;
+        private boolean containsWildcard;
+
+        private PathNode(boolean exact) {
+            this.exact = exact;
+        }
+
+        private boolean add(String[] segments, int index) {
+            if (index == segments.length) {
+                boolean added = !terminal;
+                terminal = true;
+                return added && exact;
+            }
+
+            String segment = segments[index];
+
+            for (int i = index; i < segments.length; i++) {
+                containsWildcard |= "*".equals(segments[i]);
+            }
+
+            boolean childExact = (index == 0 || exact) && !"*".equals(segment);
+            PathNode child = children.computeIfAbsent(segment, key -> new PathNode(childExact));
+            return child.add(segments, index + 1);
+        }
+
+        /**
+         * Copy the pointers below a wildcard child into its siblings, so that a name which has its own child is still
+         * matched by the pointers which go through the wildcard.
+         */
+        private void mergeWildcards() {
+            PathNode wildcard = children.get("*");
+
+            if (wildcard != null) {
+                for (Map.Entry<String, PathNode> entry : children.entrySet()) {
+                    if (!"*".equals(entry.getKey())) {
+                        entry.getValue().merge(wildcard);
+                    }
+                }
+            }
+
+            for (PathNode child : children.values()) {
+                child.mergeWildcards();
+            }
+        }
+
+        private void merge(PathNode wildcard) {
+            terminal |= wildcard.terminal;
+            containsWildcard = true;
+
+            for (Map.Entry<String, PathNode> entry : wildcard.children.entrySet()) {
+                children.computeIfAbsent(entry.getKey(), key -> new PathNode(false)).merge(entry.getValue());
+            }
+        }
+
+        private PathNode child(String name) {
+            PathNode child = children.get(name);
+            return child != null ? child : children.get("*");
+        }
+    }
+
+    private static class Extraction {
+        private final JsonParser parser;
+        private final PathNode root;
+        private final boolean hasExactPointers;
+        private int remainingExact;
+
+        private Extraction(JsonParser parser, PathNode root, int exactPointerCount) {
+            this.parser = parser;
+            this.root = root;
+            this.hasExactPointers = exactPointerCount > 0;
+            this.remainingExact = exactPointerCount;
+        }
+
+        /**
+         * Wildcard pointers can match anywhere below a node, so the remaining children of a node can be left unread
+         * only if all exact pointers have been found and no wildcard pointer goes through the node.
+         */
+        private boolean isDone(PathNode path) {
+            return hasExactPointers && remainingExact == 0 && !path.containsWildcard;
+        }
+
+        private void finishContainer() throws IOException {
+            if (root.containsWildcard) {
+                // Parsing continues in a parent, so the parser has to be moved to the end of this container
+                JsonToken token;
+
+                while ((token = nextToken()) != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY) {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private JsonNode readValue(PathNode path) throws IOException {
+            if (path.terminal) {
+                JsonNode value = JsonBrowser.mapper().readTree(parser);
+
+                if (path.exact) {
+                    remainingExact--;
+                }
+
+                return value;
+            }
+
+            JsonToken token = parser.currentToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                return readObject(path);
+            } else if (token == JsonToken.START_ARRAY) {
+                return readArray(path);
+            } else {
+                parser.skipChildren();
+                return null;
+            }
+        }
+
+        private JsonNode readObject(PathNode path) throws IOException {
+            ObjectNode result = null;
+
+            while (nextToken() != JsonToken.END_OBJECT) {
+                String name = parser.currentName();
+                nextToken();
+
+                PathNode child = path.child(name);
+
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                JsonNode value = readValue(child);
+
+                if (value != null) {
+                    if (result == null) {
+                        result = JsonBrowser.mapper().createObjectNode();
+                    }
+
+                    result.set(name, value);
+                }
+
+                if (isDone(path)) {
+                    finishContainer();
+                    break;
+                }
+            }
+
+            return result;
+        }
+
+        private JsonNode readArray(PathNode path) throws IOException {
+            ArrayNode result = null;
+            int index = 0;
+
+            while (nextToken() != JsonToken.END_ARRAY) {
+                PathNode child = path.child(String.valueOf(index));
+
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    JsonNode value = readValue(child);
+
+                    if (value != null) {
+                        if (result == null) {
+                            result = JsonBrowser.mapper().createArrayNode();
+                        }
+
+                        while (result.size() < index) {
+                            result.addNull();
+                        }
+
+                        result.add(value);
+                    }
+
+                    if (isDone(path)) {
+                        finishContainer();
+                        break;
+                    }
+                }
+
+                index++;
+            }
+
+            return result;
+        }
+
+        private JsonToken nextToken() throws IOException {
+            JsonToken token = parser.nextToken();
+
+            if (token == null) {
+                throw new EOFException("Unexpected end of JSON input.");
+            }
+
+            return token;
+        }
+    }
+}
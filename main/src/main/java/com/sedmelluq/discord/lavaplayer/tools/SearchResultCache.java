@@ -0,0 +1,206 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemLoadCache;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
+
+/**
+ * Cache for search results which can be shared between search providers. Queries are normalised (trimmed, lower case,
+ * whitespace collapsed) and keyed by source, and concurrent searches for the same query are coalesced into a single
+ * request. Since track instances can only be played once, the results are kept as track info and every caller gets new
+ * tracks created with its own track factory. Track info is copied when it is stored and when it is handed out, so
+ * changes made by one caller are not seen by others.
+ * <p>
+ * Only track lists and references are cached, errors are never cached. Setting the time to live to zero disables the
+ * cache. Search providers do not use a cache unless one is set on them, the same instance can be set on several of them.
+ */
+public class SearchResultCache {
+    private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    private static final long DEFAULT_TTL = TimeUnit.MINUTES.toMillis(10);
+
+    private final ExpiringLruCache<String, CachedResult> results;
+    private final ConcurrentMap<String, CompletableFuture<CachedResult>> pendingSearches;
+    private volatile long ttl;
+
+    /**
+     * @param maximumSize Maximum number of cached queries
+     * @param ttl         Time in milliseconds for which results are cached, zero to disable caching
+     */
+    public SearchResultCache(int maximumSize, long ttl) {
+        this.results = new ExpiringLruCache<>(maximumSize);
+        this.pendingSearches = new ConcurrentHashMap<>();
+        this.ttl = ttl;
+    }
+
+    /**
+     * Create a cache with the default size (1000 queries) and time to live (10 minutes).
+     */
+    public SearchResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL);
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached queries
+     */
+    public void setMaximumSize(int maximumSize) {
+        results.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * @param ttl Time in milliseconds for which results are cached, zero to disable caching
+     */
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+
+        if (ttl <= 0) {
+            results.clear();
+        }
+    }
+
+    /**
+     * Remove all cached results.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * @param sourceName   Name of the source which performs the search
+     * @param query        Search query, including any parameters which affect the results
+     * @param trackFactory Factory for creating tracks from cached track info
+     * @param search       Performs the actual search
+     * @return The search result, from the cache, a concurrent search for the same query or the given search
+     */
+    public AudioItem search(String sourceName, String query, Function<AudioTrackInfo, AudioTrack> trackFactory,
+                            Supplier<AudioItem> search) {
+
+        if (ttl <= 0) {
+            return search.get();
+        }
+
+        String key = sourceName + '\u0000' + normaliseQuery(query);
+        CachedResult cached = results.get(key);
+
+        if (cached != null) {
+            return cached.toItem(trackFactory);
+        }
+
+        CompletableFuture<CachedResult> pending = new CompletableFuture<>();
+        CompletableFuture<CachedResult> existing = pendingSearches.putIfAbsent(key, pending);
+
+        if (existing != null) {
+            CachedResult result = awaitSearch(existing);
+            return result != null ? result.toItem(trackFactory) : search.get();
+        }
+
+        try {
+            AudioItem item = search.get();
+            CachedResult result = CachedResult.from(item);
+
+            if (result != null) {
+                results.put(key, result, ttl);
+            }
+
+            pending.complete(result);
+            return item;
+        } catch (Throwable e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingSearches.remove(key, pending);
+        }
+    }
+
+    /**
+     * @param query Search query
+     * @return The query in the form used as a cache key
+     */
+    public static String normaliseQuery(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static CachedResult awaitSearch(CompletableFuture<CachedResult> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FriendlyException("Interrupted while waiting for search results.", SUSPICIOUS, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof FriendlyException) {
+                throw (FriendlyException) cause;
+            }
+
+            throw ExceptionTools.wrapUnfriendlyExceptions("Loading search results failed.", SUSPICIOUS, cause);
+        }
+    }
+
+    private static class CachedResult {
+        private final AudioReference reference;
+        private final String name;
+        private final List<AudioTrackInfo> trackInfos;
+        private final int selectedIndex;
+        private final boolean isSearchResult;
+
+        private CachedResult(AudioReference reference, String name, List<AudioTrackInfo> trackInfos, int selectedIndex,
+                             boolean isSearchResult) {
+            this.reference = reference;
+            this.name = name;
+            this.trackInfos = trackInfos;
+            this.selectedIndex = selectedIndex;
+            this.isSearchResult = isSearchResult;
+        }
+
+        private static CachedResult from(AudioItem item) {
+            if (item instanceof AudioReference) {
+                return new CachedResult((AudioReference) item, null, null, -1, false);
+            } else if (item instanceof AudioPlaylist) {
+                AudioPlaylist playlist = (AudioPlaylist) item;
+                List<AudioTrack> tracks = playlist.getTracks();
+                List<AudioTrackInfo> trackInfos = new ArrayList<>(tracks.size());
+
+                for (AudioTrack track : tracks) {
+                    trackInfos.add(AudioItemLoadCache.copyInfo(track.getInfo()));
+                }
+
+                return new CachedResult(null, playlist.getName(), trackInfos,
+                    tracks.indexOf(playlist.getSelectedTrack()), playlist.isSearchResult());
+            } else {
+                return null;
+            }
+        }
+
+        private AudioItem toItem(Function<AudioTrackInfo, AudioTrack> trackFactory) {
+            if (reference != null) {
+                return reference;
+            }
+
+            List<AudioTrack> tracks = new ArrayList<>(trackInfos.size());
+
+            for (AudioTrackInfo trackInfo : trackInfos) {
+                tracks.add(trackFactory.apply(AudioItemLoadCache.copyInfo(trackInfo)));
+            }
+
+            AudioTrack selectedTrack = selectedIndex >= 0 ? tracks.get(selectedIndex) : null;
+            return new BasicAudioPlaylist(name, tracks, selectedTrack, isSearchResult);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Data input which reads directly from a byte buffer. Multibyte values are always read in big endian order regardless
+ * of the order of the buffer, so it can read anything written by {@link java.io.DataOutputStream}.
+ */
+public class ByteBufferDataInput implements DataInput {
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer The buffer to read from, starting from its current position
+     */
+    public ByteBufferDataInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        require(len);
+        buffer.get(b, off, len);
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readUnsignedByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        require(1);
+        return buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return (short) readUnsignedShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        require(2);
+        return ((buffer.get() & 0xFF) << 8) | (buffer.get() & 0xFF);
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return (char) readUnsignedShort();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(4);
+        return ((buffer.get() & 0xFF) << 24) | ((buffer.get() & 0xFF) << 16) | ((buffer.get() & 0xFF) << 8) |
+            (buffer.get() & 0xFF);
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    @Override
+    public String readLine() {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        while (buffer.hasRemaining()) {
+            int c = buffer.get() & 0xFF;
+
+            if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+
+                break;
+            }
+
+            builder.append((char) c);
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    private void require(int count) throws EOFException {
+        if (buffer.remaining() < count) {
+            throw new EOFException();
+        }
+    }
+}
@@ -52,6 +52,13 @@ public class MessageInput {
         return messageFlags;
     }
 
+    /**
+     * @return Size in bytes of the last message for which nextMessage() was called.
+     */
+    public int getMessageSize() {
+        return messageSize;
+    }
+
     /**
      * Skip the remaining bytes of the last message returned from nextMessage(). This must be called if it is not certain
      * that all of the bytes of the message were consumed.
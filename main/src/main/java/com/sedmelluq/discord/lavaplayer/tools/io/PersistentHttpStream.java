@@ -18,6 +18,8 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.getHeaderValue;
 import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.isSuccessWithContent;
@@ -26,7 +28,7 @@ import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.isSucces
  * Use an HTTP endpoint as a stream, where the connection resetting is handled gracefully by reopening the connection
  * and using a closed stream will just reopen the connection.
  */
-public class PersistentHttpStream extends SeekableInputStream implements AutoCloseable {
+public class PersistentHttpStream extends SeekableInputStream implements AutoCloseable, RangeReadableInputStream {
     private static final Logger log = LoggerFactory.getLogger(PersistentHttpStream.class);
 
     private static final long MAX_SKIP_DISTANCE = 512L * 1024L;
@@ -37,6 +39,8 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
     private ClassicHttpResponse currentResponse;
     protected InputStream currentContent;
     protected long position;
+    private volatile Supplier<HttpInterface> rangeInterfaceSource;
+    private volatile ExecutorService rangeReadExecutor;
 
     /**
      * @param httpInterface The HTTP interface to use for requests
@@ -72,6 +76,19 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
         return currentResponse;
     }
 
+    /**
+     * Enable range reads, which are done over separate connections and usually from other threads than the one reading
+     * this stream, so they cannot share its HTTP interface.
+     *
+     * @param rangeInterfaceSource Source of HTTP interfaces for range reads, each one is closed after the read. Null to
+     *                             disable range reads.
+     * @param rangeReadExecutor    Executor to run range reads ahead of time in, owned by the caller
+     */
+    public void enableRangeReads(Supplier<HttpInterface> rangeInterfaceSource, ExecutorService rangeReadExecutor) {
+        this.rangeReadExecutor = rangeReadExecutor;
+        this.rangeInterfaceSource = rangeInterfaceSource;
+    }
+
     protected URI getConnectUrl() {
         return contentUrl;
     }
@@ -100,6 +117,12 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
         return request;
     }
 
+    protected HttpGet getRangeRequest(long rangePosition, int rangeLength) {
+        HttpGet request = new HttpGet(contentUrl);
+        request.setHeader(HttpHeaders.RANGE, "bytes=" + rangePosition + "-" + (rangePosition + rangeLength - 1));
+        return request;
+    }
+
     protected void connect(boolean skipStatusCheck) throws IOException {
         if (currentResponse == null) {
             for (int i = 1; i >= 0; i--) {
@@ -289,6 +312,67 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
         currentContent = null;
     }
 
+    @Override
+    public boolean canReadRanges() {
+        ExecutorService executor = rangeReadExecutor;
+        return rangeInterfaceSource != null && executor != null && !executor.isShutdown() && canSeekHard();
+    }
+
+    @Override
+    public ExecutorService getRangeReadExecutor() {
+        return rangeReadExecutor;
+    }
+
+    @Override
+    public int readRange(long rangePosition, byte[] buffer, int offset, int length) throws IOException {
+        Supplier<HttpInterface> source = rangeInterfaceSource;
+
+        if (source == null) {
+            throw new IllegalStateException("Range reads are not enabled.");
+        }
+
+        int read;
+
+        try {
+            read = readRangeOnce(source, rangePosition, buffer, offset, length);
+        } catch (IOException e) {
+            // Range reads use their own connections, so unlike the sequential path this must not close the stream
+            if (!HttpClientTools.isRetriableNetworkException(e)) {
+                throw e;
+            }
+
+            log.debug("Encountered retriable exception on range read of url {}.", contentUrl, e);
+            return readRangeOnce(source, rangePosition, buffer, offset, length);
+        }
+
+        // Ending before the resource does means that the connection was cut, so the rest is requested again once
+        if (read < length && rangePosition + read < contentLength) {
+            log.debug("Range read of {} at {} ended early after {} bytes, retrying the rest.", contentUrl, rangePosition, read);
+            read += readRangeOnce(source, rangePosition + read, buffer, offset + read, length - read);
+        }
+
+        return read;
+    }
+
+    private int readRangeOnce(Supplier<HttpInterface> source, long rangePosition, byte[] buffer, int offset,
+                              int length) throws IOException {
+
+        try (HttpInterface rangeInterface = source.get();
+             ClassicHttpResponse response = rangeInterface.execute(getRangeRequest(rangePosition, length))) {
+
+            validateStatusCode(response, false);
+
+            // Without the range in the URL, a 200 means the server ignored the Range header and sends from the start
+            if (useHeadersForRange() && response.getCode() != HttpStatus.SC_PARTIAL_CONTENT) {
+                throw new IOException("Server did not respect Range header, returned " + response.getCode() + " instead of 206.");
+            } else if (response.getEntity() == null) {
+                return 0;
+            }
+
+            return StreamTools.readUntilEnd(response.getEntity().getContent(), buffer, offset, length);
+        }
+    }
+
     @Override
     public long getPosition() {
         return position;
@@ -0,0 +1,34 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * An input stream which can read arbitrary ranges of its resource independently of its own position, for example over
+ * separate connections, so that ranges can be fetched ahead of time in parallel.
+ */
+public interface RangeReadableInputStream {
+    /**
+     * @return True if ranges can currently be read with {@link #readRange(long, byte[], int, int)}
+     */
+    boolean canReadRanges();
+
+    /**
+     * @return Executor to run range reads ahead of time in. It is owned by whoever enabled range reads on this stream and
+     *         is shut down along with it.
+     */
+    ExecutorService getRangeReadExecutor();
+
+    /**
+     * Read a range of the resource without affecting the position of this stream. May be called from any thread, also
+     * concurrently with other range reads.
+     *
+     * @param position Position of the range in the resource
+     * @param buffer   Buffer to read the range into
+     * @param offset   Offset in the buffer
+     * @param length   Length of the range
+     * @return Number of bytes read, less than the length only if the resource ended
+     * @throws IOException On read error
+     */
+    int readRange(long position, byte[] buffer, int offset, int length) throws IOException;
+}
@@ -44,6 +44,18 @@ public class SavedHeadSeekableInputStream extends SeekableInputStream {
         headPosition = 0;
     }
 
+    /**
+     * Copy the saved beginning of the stream without changing the position of the stream.
+     *
+     * @param buffer Buffer to copy the bytes to, at most its length is copied
+     * @return Number of bytes copied, less than the length of the buffer if the saved part is shorter
+     */
+    public int getHead(byte[] buffer) {
+        int length = (int) Math.max(0, Math.min(buffer.length, savedUntilPosition));
+        System.arraycopy(savedHead, 0, buffer, 0, length);
+        return length;
+    }
+
     @Override
     public long getPosition() {
         if (usingHead) {
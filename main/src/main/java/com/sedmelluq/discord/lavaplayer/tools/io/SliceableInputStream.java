@@ -0,0 +1,19 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An input stream which can return its next bytes as a view of the memory they are already in, so that readers which
+ * accept a buffer do not have to copy them.
+ */
+public interface SliceableInputStream {
+    /**
+     * Get the next bytes as a read-only view without copying them, and advance the position past them.
+     *
+     * @param length Number of bytes to get
+     * @return View of the next bytes, which may be shorter than requested, empty at the end of the stream
+     * @throws IOException On read error
+     */
+    ByteBuffer readSlice(int length) throws IOException;
+}
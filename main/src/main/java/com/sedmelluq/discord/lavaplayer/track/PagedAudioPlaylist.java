@@ -0,0 +1,213 @@
+package com.sedmelluq.discord.lavaplayer.track;
+
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Playlist which is returned as soon as its first page of tracks has been loaded, with the remaining pages loaded on
+ * demand. Pages are loaded when iterating past the loaded tracks, when calling {@link #loadNextPage()}, or all at once
+ * with {@link #loadRemaining()} or {@link #loadRemainingAsync(Executor)}.
+ * <p>
+ * {@link #getTracks()} never loads anything, it returns the tracks loaded so far, so code which only knows about
+ * {@link AudioPlaylist} does not make requests on its own thread. The remaining pages are only loaded through the
+ * methods of this class, check {@link #isFullyLoaded()} to know whether there are any. A page which fails to load is
+ * never skipped: the error is thrown from whichever method was loading it, and the page is loaded again on the next
+ * attempt.
+ * <p>
+ * Pages are loaded one at a time without holding the lock of the playlist, so the tracks loaded so far remain
+ * accessible while a page is being loaded.
+ */
+public class PagedAudioPlaylist implements AudioPlaylist, Iterable<AudioTrack> {
+    private final Object pageLoadLock = new Object();
+    private final String name;
+    private final List<AudioTrack> tracks;
+    private final AudioTrack selectedTrack;
+    private final boolean isSearchResult;
+    private PageLoader pageLoader;
+
+    /**
+     * @param name           Name of the playlist
+     * @param firstPage      Tracks which have already been loaded
+     * @param selectedTrack  Track that is explicitly selected, must be in the first page if not null
+     * @param isSearchResult True if the playlist was created from search results
+     * @param pageLoader     Loader for the remaining pages, null if there are no more pages
+     */
+    public PagedAudioPlaylist(String name, List<AudioTrack> firstPage, AudioTrack selectedTrack, boolean isSearchResult,
+                              PageLoader pageLoader) {
+        this.name = name;
+        this.tracks = new ArrayList<>(firstPage);
+        this.selectedTrack = selectedTrack;
+        this.isSearchResult = isSearchResult;
+        this.pageLoader = pageLoader;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Copy of the list of tracks which have been loaded so far, does not load the remaining pages
+     */
+    @Override
+    public List<AudioTrack> getTracks() {
+        return getLoadedTracks();
+    }
+
+    @Override
+    public AudioTrack getSelectedTrack() {
+        return selectedTrack;
+    }
+
+    @Override
+    public boolean isSearchResult() {
+        return isSearchResult;
+    }
+
+    /**
+     * @return Copy of the list of tracks which have been loaded so far
+     */
+    public synchronized List<AudioTrack> getLoadedTracks() {
+        return new ArrayList<>(tracks);
+    }
+
+    /**
+     * @return Number of tracks which have been loaded so far
+     */
+    public synchronized int getLoadedCount() {
+        return tracks.size();
+    }
+
+    /**
+     * @return True if all pages of the playlist have been loaded
+     */
+    public synchronized boolean isFullyLoaded() {
+        return pageLoader == null;
+    }
+
+    /**
+     * Load the next page of the playlist.
+     *
+     * @return Tracks of the loaded page, empty list if there were no more pages
+     * @throws FriendlyException If loading the page failed. Loading can be retried by calling this method again.
+     */
+    public List<AudioTrack> loadNextPage() {
+        synchronized (pageLoadLock) {
+            PageLoader loader = getPageLoader();
+
+            if (loader == null) {
+                return Collections.emptyList();
+            }
+
+            List<AudioTrack> page;
+
+            try {
+                page = loader.loadNextPage();
+            } catch (Exception e) {
+                throw ExceptionTools.wrapUnfriendlyExceptions("Loading the next page of playlist failed.",
+                    FriendlyException.Severity.SUSPICIOUS, e);
+            }
+
+            synchronized (this) {
+                if (page == null) {
+                    pageLoader = null;
+                    return Collections.emptyList();
+                }
+
+                tracks.addAll(page);
+            }
+
+            return page;
+        }
+    }
+
+    /**
+     * Load all of the remaining pages of the playlist.
+     *
+     * @throws FriendlyException If loading a page failed
+     */
+    public void loadRemaining() {
+        while (getPageLoader() != null) {
+            loadNextPage();
+        }
+    }
+
+    /**
+     * @param executor Executor to load the pages in
+     * @return Future which completes with the complete list of tracks once all pages have been loaded
+     */
+    public CompletableFuture<List<AudioTrack>> loadRemainingAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            loadRemaining();
+            return getLoadedTracks();
+        }, executor);
+    }
+
+    /**
+     * @return Iterator over all of the tracks in the playlist, which loads the next page when it reaches the end of the
+     * tracks loaded so far. Its methods throw a {@link FriendlyException} if loading that page fails.
+     */
+    @Override
+    public Iterator<AudioTrack> iterator() {
+        return new PagingIterator();
+    }
+
+    private synchronized PageLoader getPageLoader() {
+        return pageLoader;
+    }
+
+    private AudioTrack trackAt(int index) {
+        while (true) {
+            synchronized (this) {
+                if (index < tracks.size()) {
+                    return tracks.get(index);
+                } else if (pageLoader == null) {
+                    return null;
+                }
+            }
+
+            loadNextPage();
+        }
+    }
+
+    /**
+     * Loader for the pages of a playlist after the first one. Calls to it are never concurrent.
+     */
+    @FunctionalInterface
+    public interface PageLoader {
+        /**
+         * @return Tracks of the next page, or null if there are no more pages
+         * @throws Exception If loading the page failed
+         */
+        List<AudioTrack> loadNextPage() throws Exception;
+    }
+
+    private class PagingIterator implements Iterator<AudioTrack> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return trackAt(index) != null;
+        }
+
+        @Override
+        public AudioTrack next() {
+            AudioTrack track = trackAt(index);
+
+            if (track == null) {
+                throw new NoSuchElementException();
+            }
+
+            index++;
+            return track;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import static com.sedmelluq.discord.lavaplayer.track.TrackMarkerHandler.MarkerSt
  */
 public class TrackMarkerTracker {
     private final List<TrackMarker> markerList = new CopyOnWriteArrayList<>();
+    private volatile long nextTimecode = Long.MAX_VALUE;
 
     /**
      * Set a new track position marker. This removes all previously set markers.
@@ -34,6 +35,7 @@ public class TrackMarkerTracker {
                 marker.handler.handle(LATE);
             } else {
                 markerList.add(marker);
+                updateNextTimecode();
             }
         }
     }
@@ -55,7 +57,9 @@ public class TrackMarkerTracker {
             return null;
         }
 
-        return markerList.remove(0);
+        TrackMarker marker = markerList.remove(0);
+        updateNextTimecode();
+        return marker;
     }
 
     /**
@@ -70,6 +74,7 @@ public class TrackMarkerTracker {
 
     public void clear() {
         markerList.clear();
+        updateNextTimecode();
     }
 
     /**
@@ -91,6 +96,11 @@ public class TrackMarkerTracker {
      * @param timecode Timecode which was reached by normal playback.
      */
     public void checkPlaybackTimecode(long timecode) {
+        // Called for every frame, so avoid going through the markers until the earliest one is reached
+        if (timecode < nextTimecode) {
+            return;
+        }
+
         for (TrackMarker marker : markerList) {
             if (marker != null && timecode >= marker.timecode) {
                 trigger(marker, REACHED);
@@ -104,6 +114,10 @@ public class TrackMarkerTracker {
      * @param timecode Timecode which was reached by seeking.
      */
     public void checkSeekTimecode(long timecode) {
+        if (timecode < nextTimecode) {
+            return;
+        }
+
         for (TrackMarker marker : markerList) {
             if (marker != null && timecode >= marker.timecode) {
                 trigger(marker, BYPASSED);
@@ -113,7 +127,18 @@ public class TrackMarkerTracker {
 
     private void trigger(TrackMarker marker, TrackMarkerHandler.MarkerState state) {
         if (markerList.remove(marker)) {
+            updateNextTimecode();
             marker.handler.handle(state);
         }
     }
+
+    private synchronized void updateNextTimecode() {
+        long next = Long.MAX_VALUE;
+
+        for (TrackMarker marker : markerList) {
+            next = Math.min(next, marker.timecode);
+        }
+
+        nextTimecode = next;
+    }
 }
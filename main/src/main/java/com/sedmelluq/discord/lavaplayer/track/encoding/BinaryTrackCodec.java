@@ -0,0 +1,374 @@
+package com.sedmelluq.discord.lavaplayer.track.encoding;
+
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteBufferDataOutput;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encoder and decoder for tracks stored in byte buffers. Messages use the same framing as
+ * {@link com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput}, so buffers can be read back with
+ * {@link com.sedmelluq.discord.lavaplayer.tools.io.MessageInput} and vice versa. Tracks are written in the compact
+ * version 5 layout which uses variable length integers and plain UTF-8 text, reading also supports the older layouts
+ * produced by the stream based encoder (versions 1 to 4).
+ * <p>
+ * Compact layout: version byte, flags byte, title, author, identifier, length (unless unknown), uri, artwork url, isrc
+ * (each only if present), replay gain (float, only if present), position, followed by the track details up to the end
+ * of the message. Texts are prefixed with their UTF-8 length as a variable length integer.
+ */
+public class BinaryTrackCodec {
+    /**
+     * Version of the compact track layout.
+     */
+    public static final int COMPACT_VERSION = 5;
+    /**
+     * Highest version of the layouts written by the stream based encoder.
+     */
+    public static final int LEGACY_MAX_VERSION = 4;
+    /**
+     * Message flag which indicates that the message starts with a version byte.
+     */
+    public static final int MESSAGE_FLAG_VERSIONED = 1;
+
+    static final int FLAG_STREAM = 1;
+    static final int FLAG_URI = 2;
+    static final int FLAG_ARTWORK = 4;
+    static final int FLAG_ISRC = 8;
+    static final int FLAG_REPLAY_GAIN = 16;
+    static final int FLAG_LENGTH_UNKNOWN = 32;
+
+    private static final int HEADER_SIZE = 4;
+    private static final int MAXIMUM_MESSAGE_SIZE = 0x3FFFFFFF;
+
+    /**
+     * Writes one track as a message to the buffer. Nothing is allocated apart from what the source manager does while
+     * writing the track details. If the buffer does not have enough space, its position is restored to where it was
+     * before the call and {@link java.nio.BufferOverflowException} is thrown, so the caller can retry with a larger
+     * buffer.
+     *
+     * @param buffer         Buffer to write to, starting from its current position
+     * @param track          Track to encode
+     * @param detailsEncoder Encoder for the source specific details of the track
+     * @throws IOException On error from the details encoder
+     */
+    public static void encode(ByteBuffer buffer, AudioTrack track, TrackDetailsEncoder detailsEncoder) throws IOException {
+        int start = buffer.position();
+        boolean completed = false;
+
+        try {
+            // Placeholder for the header, filled in once the size of the message is known.
+            putIntBigEndian(buffer, 0);
+
+            AudioTrackInfo trackInfo = track.getInfo();
+            buffer.put((byte) COMPACT_VERSION);
+            buffer.put((byte) flagsOf(trackInfo));
+
+            writeText(buffer, trackInfo.title);
+            writeText(buffer, trackInfo.author);
+            writeText(buffer, trackInfo.identifier);
+
+            if (trackInfo.length != Units.DURATION_MS_UNKNOWN) {
+                writeVarLong(buffer, zigZag(trackInfo.length));
+            }
+
+            writeOptionalText(buffer, trackInfo.uri);
+            writeOptionalText(buffer, trackInfo.artworkUrl);
+            writeOptionalText(buffer, trackInfo.isrc);
+
+            if (trackInfo.replayGainDb != null) {
+                putIntBigEndian(buffer, Float.floatToIntBits(trackInfo.replayGainDb));
+            }
+
+            writeVarLong(buffer, zigZag(track.getPosition()));
+            detailsEncoder.encodeDetails(track, new ByteBufferDataOutput(buffer));
+
+            int size = buffer.position() - start - HEADER_SIZE;
+
+            if (size > MAXIMUM_MESSAGE_SIZE) {
+                throw new IOException("Encoded track is too large (" + size + " bytes).");
+            }
+
+            putIntBigEndian(buffer, start, size | MESSAGE_FLAG_VERSIONED << 30);
+            completed = true;
+        } finally {
+            if (!completed) {
+                buffer.position(start);
+            }
+        }
+    }
+
+    /**
+     * Reads the next message from the buffer without decoding any of its fields. The returned view shares content with
+     * the buffer, so the buffer must not be modified while the view is in use.
+     *
+     * @param buffer Buffer to read from, its position is advanced past the message
+     * @return View of the encoded track, or null if the end marker written by {@link #finish(ByteBuffer)} or
+     * {@link com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput#finish()} was reached
+     * @throws IOException If the buffer does not contain a complete message or the version of the track is unknown
+     */
+    public static EncodedTrack read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE) {
+            throw new EOFException();
+        }
+
+        int header = getIntBigEndian(buffer, buffer.position());
+        int flags = header >>> 30;
+        int size = header & MAXIMUM_MESSAGE_SIZE;
+
+        if (size == 0) {
+            buffer.position(buffer.position() + HEADER_SIZE);
+            return null;
+        } else if (buffer.remaining() < HEADER_SIZE + size) {
+            throw new EOFException("Message of " + size + " bytes is truncated.");
+        }
+
+        if ((flags & MESSAGE_FLAG_VERSIONED) != 0) {
+            int version = buffer.get(buffer.position() + HEADER_SIZE) & 0xFF;
+
+            if (!isSupportedVersion(version)) {
+                throw new IOException("Unsupported track version " + version + ".");
+            }
+        }
+
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(buffer.position() + HEADER_SIZE);
+        payload.limit(buffer.position() + HEADER_SIZE + size);
+
+        buffer.position(buffer.position() + HEADER_SIZE + size);
+        return new EncodedTrack(payload.slice(), flags);
+    }
+
+    /**
+     * @param version Version of a track message
+     * @return True if tracks of this version can be read
+     */
+    public static boolean isSupportedVersion(int version) {
+        return version == COMPACT_VERSION || (version >= 1 && version <= LEGACY_MAX_VERSION);
+    }
+
+    /**
+     * Write an end marker to the buffer, equivalent to {@link com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput#finish()}.
+     *
+     * @param buffer Buffer to write to
+     */
+    public static void finish(ByteBuffer buffer) {
+        putIntBigEndian(buffer, 0);
+    }
+
+    private static int flagsOf(AudioTrackInfo trackInfo) {
+        int flags = 0;
+
+        if (trackInfo.isStream) {
+            flags |= FLAG_STREAM;
+        }
+
+        if (trackInfo.uri != null) {
+            flags |= FLAG_URI;
+        }
+
+        if (trackInfo.artworkUrl != null) {
+            flags |= FLAG_ARTWORK;
+        }
+
+        if (trackInfo.isrc != null) {
+            flags |= FLAG_ISRC;
+        }
+
+        if (trackInfo.replayGainDb != null) {
+            flags |= FLAG_REPLAY_GAIN;
+        }
+
+        if (trackInfo.length == Units.DURATION_MS_UNKNOWN) {
+            flags |= FLAG_LENGTH_UNKNOWN;
+        }
+
+        return flags;
+    }
+
+    private static void writeOptionalText(ByteBuffer buffer, String text) {
+        if (text != null) {
+            writeText(buffer, text);
+        }
+    }
+
+    /**
+     * Writes text as UTF-8 prefixed with its byte length, without creating an intermediate array.
+     *
+     * @param buffer Buffer to write to
+     * @param text   Text to write, null is written as an empty string
+     */
+    public static void writeText(ByteBuffer buffer, String text) {
+        if (text == null) {
+            text = "";
+        }
+
+        writeVarLong(buffer, utf8Length(text));
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Reads text written by {@link #writeText(ByteBuffer, String)}.
+     *
+     * @param buffer Buffer to read from, its position is advanced past the text
+     * @return The text that was read
+     * @throws IOException If the text is truncated
+     */
+    public static String readText(ByteBuffer buffer) throws IOException {
+        int length = (int) readVarLong(buffer);
+
+        if (length < 0 || buffer.remaining() < length) {
+            throw new EOFException("Text of " + length + " bytes is truncated.");
+        }
+
+        String text;
+
+        if (buffer.hasArray()) {
+            text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(buffer.position(), bytes);
+            text = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        buffer.position(buffer.position() + length);
+        return text;
+    }
+
+    /**
+     * Advances the position of the buffer past text written by {@link #writeText(ByteBuffer, String)}.
+     *
+     * @param buffer Buffer to skip the text in
+     * @throws IOException If the text is truncated
+     */
+    public static void skipText(ByteBuffer buffer) throws IOException {
+        int length = (int) readVarLong(buffer);
+
+        if (length < 0 || buffer.remaining() < length) {
+            throw new EOFException("Text of " + length + " bytes is truncated.");
+        }
+
+        buffer.position(buffer.position() + length);
+    }
+
+    private static int utf8Length(String text) {
+        int length = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * @param buffer Buffer to write to
+     * @param value  Unsigned value to write in 7-bit groups, least significant group first
+     */
+    public static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    /**
+     * @param buffer Buffer to read from
+     * @return Value written by {@link #writeVarLong(ByteBuffer, long)}
+     * @throws IOException If the value is truncated or malformed
+     */
+    public static long readVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new EOFException();
+            }
+
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed variable length integer.");
+    }
+
+    /**
+     * @param value Signed value
+     * @return Value with the sign moved to the lowest bit, so small negative values also stay small when var-encoded
+     */
+    public static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * @param value Value produced by {@link #zigZag(long)}
+     * @return The original signed value
+     */
+    public static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int getIntBigEndian(ByteBuffer buffer, int index) {
+        return ((buffer.get(index) & 0xFF) << 24) | ((buffer.get(index + 1) & 0xFF) << 16) |
+            ((buffer.get(index + 2) & 0xFF) << 8) | (buffer.get(index + 3) & 0xFF);
+    }
+
+    static void putIntBigEndian(ByteBuffer buffer, int value) {
+        buffer.put((byte) (value >>> 24));
+        buffer.put((byte) (value >>> 16));
+        buffer.put((byte) (value >>> 8));
+        buffer.put((byte) value);
+    }
+
+    static void putIntBigEndian(ByteBuffer buffer, int index, int value) {
+        buffer.put(index, (byte) (value >>> 24));
+        buffer.put(index + 1, (byte) (value >>> 16));
+        buffer.put(index + 2, (byte) (value >>> 8));
+        buffer.put(index + 3, (byte) value);
+    }
+}
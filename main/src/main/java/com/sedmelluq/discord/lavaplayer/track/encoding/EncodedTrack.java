@@ -0,0 +1,329 @@
+package com.sedmelluq.discord.lavaplayer.track.encoding;
+
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteBufferDataInput;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.sedmelluq.discord.lavaplayer.track.encoding.BinaryTrackCodec.*;
+
+/**
+ * View of an encoded track message which decodes its fields only when they are accessed. The positions of the fields
+ * are located with a single pass over the message on first access, text fields are decoded on every access to them.
+ * Supports both the compact layout and the layouts of the stream based encoder (versions 1 to 4).
+ */
+public class EncodedTrack {
+    private static final int TITLE = 0;
+    private static final int AUTHOR = 1;
+    private static final int LENGTH = 2;
+    private static final int IDENTIFIER = 3;
+    private static final int URI = 4;
+    private static final int ARTWORK = 5;
+    private static final int ISRC = 6;
+    private static final int REPLAY_GAIN = 7;
+    private static final int POSITION = 8;
+    private static final int DETAILS = 9;
+    private static final int DETAILS_END = 10;
+    private static final int STREAM = 11;
+    private static final int FIELD_COUNT = 12;
+
+    private final ByteBuffer payload;
+    private final int messageFlags;
+    private final boolean versioned;
+    private final int version;
+    private final boolean compact;
+    private int flags;
+    private int[] offsets;
+
+    /**
+     * @param payload      Contents of the message, from position 0 to its limit
+     * @param messageFlags Flags of the message
+     * @throws IllegalArgumentException If the version of the track is not supported
+     */
+    public EncodedTrack(ByteBuffer payload, int messageFlags) {
+        this.payload = payload.duplicate().order(ByteOrder.BIG_ENDIAN);
+        this.messageFlags = messageFlags;
+        this.versioned = (messageFlags & MESSAGE_FLAG_VERSIONED) != 0;
+        this.version = versioned ? (payload.get(0) & 0xFF) : 1;
+        this.compact = version == COMPACT_VERSION;
+
+        if (!isSupportedVersion(version)) {
+            throw new IllegalArgumentException("Unsupported track version " + version + ".");
+        }
+    }
+
+    /**
+     * @return Version of the layout this track is encoded with
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return Flags of the message the track was read from
+     */
+    public int getMessageFlags() {
+        return messageFlags;
+    }
+
+    /**
+     * @return Contents of the message, from position 0 to its limit. Shares content with the underlying buffer.
+     */
+    public ByteBuffer getPayload() {
+        return payload.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return Total size of the encoded message contents in bytes
+     */
+    public int getSize() {
+        return payload.limit();
+    }
+
+    public String getTitle() {
+        return textAt(TITLE);
+    }
+
+    public String getAuthor() {
+        return textAt(AUTHOR);
+    }
+
+    public long getLength() {
+        int offset = offset(LENGTH);
+
+        if (offset < 0) {
+            return Units.DURATION_MS_UNKNOWN;
+        } else if (compact) {
+            return unZigZag(varLongAt(offset));
+        } else {
+            return payload.getLong(offset);
+        }
+    }
+
+    public String getIdentifier() {
+        return textAt(IDENTIFIER);
+    }
+
+    public boolean isStream() {
+        if (compact) {
+            offset(TITLE);
+            return (flags & FLAG_STREAM) != 0;
+        } else {
+            return payload.get(offset(STREAM)) != 0;
+        }
+    }
+
+    public String getUri() {
+        return textAt(URI);
+    }
+
+    public String getArtworkUrl() {
+        return textAt(ARTWORK);
+    }
+
+    public String getIsrc() {
+        return textAt(ISRC);
+    }
+
+    public Float getReplayGainDb() {
+        int offset = offset(REPLAY_GAIN);
+        return offset >= 0 ? Float.intBitsToFloat(getIntBigEndian(payload, offset)) : null;
+    }
+
+    /**
+     * @return Position of the track at the time it was encoded
+     */
+    public long getPosition() {
+        int offset = offset(POSITION);
+        return compact ? unZigZag(varLongAt(offset)) : payload.getLong(offset);
+    }
+
+    /**
+     * @return Source specific details of the track, starting with the name of the source manager. Shares content with the
+     * underlying buffer.
+     */
+    public ByteBuffer getDetails() {
+        ByteBuffer details = payload.duplicate();
+        details.limit(offset(DETAILS_END));
+        details.position(offset(DETAILS));
+        return details.slice();
+    }
+
+    /**
+     * @return Track info with all of the fields decoded
+     */
+    public AudioTrackInfo toTrackInfo() {
+        return new AudioTrackInfo(
+            getTitle(),
+            getAuthor(),
+            getLength(),
+            getIdentifier(),
+            isStream(),
+            getUri(),
+            getArtworkUrl(),
+            getIsrc(),
+            getReplayGainDb()
+        );
+    }
+
+    private String textAt(int field) {
+        int offset = offset(field);
+
+        if (offset < 0) {
+            return null;
+        }
+
+        ByteBuffer reader = payload.duplicate();
+        reader.position(offset);
+
+        try {
+            if (compact) {
+                return readText(reader);
+            } else {
+                return DataInputStream.readUTF(new ByteBufferDataInput(reader));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long varLongAt(int offset) {
+        ByteBuffer reader = payload.duplicate();
+        reader.position(offset);
+
+        try {
+            return readVarLong(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int offset(int field) {
+        if (offsets == null) {
+            try {
+                offsets = compact ? locateCompactFields() : locateLegacyFields();
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalStateException("Encoded track of version " + version + " is malformed.", e);
+            }
+        }
+
+        return offsets[field];
+    }
+
+    private int[] locateCompactFields() throws IOException {
+        int[] located = new int[FIELD_COUNT];
+        ByteBuffer reader = payload.duplicate();
+        reader.position(1);
+        flags = reader.get() & 0xFF;
+
+        located[TITLE] = reader.position();
+        skipText(reader);
+        located[AUTHOR] = reader.position();
+        skipText(reader);
+        located[IDENTIFIER] = reader.position();
+        skipText(reader);
+
+        located[STREAM] = -1;
+        located[LENGTH] = (flags & FLAG_LENGTH_UNKNOWN) == 0 ? reader.position() : -1;
+        if (located[LENGTH] >= 0) {
+            readVarLong(reader);
+        }
+
+        located[URI] = skipOptionalText(reader, FLAG_URI);
+        located[ARTWORK] = skipOptionalText(reader, FLAG_ARTWORK);
+        located[ISRC] = skipOptionalText(reader, FLAG_ISRC);
+
+        located[REPLAY_GAIN] = (flags & FLAG_REPLAY_GAIN) != 0 ? reader.position() : -1;
+        if (located[REPLAY_GAIN] >= 0) {
+            skip(reader, 4);
+        }
+
+        located[POSITION] = reader.position();
+        readVarLong(reader);
+
+        located[DETAILS] = reader.position();
+        located[DETAILS_END] = reader.limit();
+        return located;
+    }
+
+    private int skipOptionalText(ByteBuffer reader, int flag) throws IOException {
+        if ((flags & flag) == 0) {
+            return -1;
+        }
+
+        int offset = reader.position();
+        skipText(reader);
+        return offset;
+    }
+
+    private int[] locateLegacyFields() throws IOException {
+        int[] located = new int[FIELD_COUNT];
+        ByteBuffer reader = payload.duplicate();
+        reader.position(versioned ? 1 : 0);
+
+        located[TITLE] = reader.position();
+        skipModifiedUtf(reader);
+        located[AUTHOR] = reader.position();
+        skipModifiedUtf(reader);
+        located[LENGTH] = reader.position();
+        skip(reader, 8);
+        located[IDENTIFIER] = reader.position();
+        skipModifiedUtf(reader);
+        located[STREAM] = reader.position();
+        skip(reader, 1);
+
+        located[URI] = version >= 2 ? skipNullableModifiedUtf(reader) : -1;
+        located[ARTWORK] = version >= 3 ? skipNullableModifiedUtf(reader) : -1;
+        located[ISRC] = version >= 3 ? skipNullableModifiedUtf(reader) : -1;
+        located[REPLAY_GAIN] = -1;
+
+        if (version >= 4) {
+            skip(reader, 1);
+
+            if (reader.get(reader.position() - 1) != 0) {
+                located[REPLAY_GAIN] = reader.position();
+                skip(reader, 4);
+            }
+        }
+
+        if (reader.limit() - reader.position() < 8) {
+            throw new EOFException("No room for track position.");
+        }
+
+        located[DETAILS] = reader.position();
+        located[DETAILS_END] = reader.limit() - 8;
+        located[POSITION] = reader.limit() - 8;
+        return located;
+    }
+
+    private static int skipNullableModifiedUtf(ByteBuffer reader) throws IOException {
+        skip(reader, 1);
+
+        if (reader.get(reader.position() - 1) == 0) {
+            return -1;
+        }
+
+        int offset = reader.position();
+        skipModifiedUtf(reader);
+        return offset;
+    }
+
+    private static void skipModifiedUtf(ByteBuffer reader) throws IOException {
+        skip(reader, 2);
+        skip(reader, reader.getShort(reader.position() - 2) & 0xFFFF);
+    }
+
+    private static void skip(ByteBuffer reader, int count) throws IOException {
+        if (reader.remaining() < count) {
+            throw new EOFException();
+        }
+
+        reader.position(reader.position() + count);
+    }
+}
@@ -0,0 +1,239 @@
+package com.sedmelluq.discord.lavaplayer.track.encoding;
+
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encoder for a batch of tracks, such as a whole queue. Strings which repeat between tracks (authors, source names and
+ * URL templates) are written once into a shared string table at the start of the batch and referenced by index from
+ * the tracks. Lengths and positions are written as deltas from the previous track. Decoding is done with
+ * {@link TrackBatchReader}, which decodes one track at a time.
+ * <p>
+ * URLs which contain the identifier of the track are stored as a template with the identifier cut out, so for example
+ * the artwork URLs of all tracks from one source usually share a single table entry. Other URLs are split into a shared
+ * prefix and a per-track suffix.
+ */
+public class TrackBatchCodec {
+    /**
+     * Version of the batch layout.
+     */
+    public static final int BATCH_VERSION = 1;
+
+    static final int FLAG_STREAM = 1;
+    static final int FLAG_LENGTH_UNKNOWN = 2;
+    static final int FLAG_ISRC = 4;
+    static final int FLAG_REPLAY_GAIN = 8;
+    static final int URI_SHIFT = 4;
+    static final int ARTWORK_SHIFT = 6;
+
+    static final int URL_ABSENT = 0;
+    static final int URL_TEMPLATE = 1;
+    static final int URL_PREFIXED = 2;
+
+    /**
+     * Encode a batch of tracks.
+     *
+     * @param stream Stream to write the batch to
+     * @param tracks Tracks to encode
+     * @throws IOException On write error or error from a source manager
+     */
+    public static void encode(OutputStream stream, Collection<AudioTrack> tracks) throws IOException {
+        DataOutputStream output = new DataOutputStream(stream);
+        StringTable table = new StringTable();
+
+        for (AudioTrack track : tracks) {
+            AudioTrackInfo trackInfo = track.getInfo();
+            table.add(trackInfo.author);
+            table.add(track.getSourceManager().getSourceName());
+            table.add(urlTableEntry(trackInfo.uri, trackInfo.identifier));
+            table.add(urlTableEntry(trackInfo.artworkUrl, trackInfo.identifier));
+        }
+
+        output.write(BATCH_VERSION);
+        writeVarInt(output, table.strings.size());
+
+        for (String text : table.strings) {
+            output.writeUTF(text);
+        }
+
+        writeVarInt(output, tracks.size());
+
+        ByteArrayOutputStream detailsBytes = new ByteArrayOutputStream();
+        DataOutput detailsOutput = new DataOutputStream(detailsBytes);
+        long previousLength = 0;
+        long previousPosition = 0;
+
+        for (AudioTrack track : tracks) {
+            AudioTrackInfo trackInfo = track.getInfo();
+            AudioSourceManager sourceManager = track.getSourceManager();
+            boolean lengthKnown = trackInfo.length != Units.DURATION_MS_UNKNOWN;
+            int uriMode = urlMode(trackInfo.uri, trackInfo.identifier);
+            int artworkMode = urlMode(trackInfo.artworkUrl, trackInfo.identifier);
+
+            output.write((trackInfo.isStream ? FLAG_STREAM : 0) |
+                (lengthKnown ? 0 : FLAG_LENGTH_UNKNOWN) |
+                (trackInfo.isrc != null ? FLAG_ISRC : 0) |
+                (trackInfo.replayGainDb != null ? FLAG_REPLAY_GAIN : 0) |
+                uriMode << URI_SHIFT |
+                artworkMode << ARTWORK_SHIFT);
+
+            output.writeUTF(trackInfo.title);
+            writeVarInt(output, table.indexOf(trackInfo.author));
+            output.writeUTF(trackInfo.identifier);
+
+            if (lengthKnown) {
+                writeVarLong(output, BinaryTrackCodec.zigZag(trackInfo.length - previousLength));
+                previousLength = trackInfo.length;
+            }
+
+            writeUrl(output, table, trackInfo.uri, trackInfo.identifier, uriMode);
+            writeUrl(output, table, trackInfo.artworkUrl, trackInfo.identifier, artworkMode);
+
+            if (trackInfo.isrc != null) {
+                output.writeUTF(trackInfo.isrc);
+            }
+
+            if (trackInfo.replayGainDb != null) {
+                output.writeFloat(trackInfo.replayGainDb);
+            }
+
+            long position = track.getPosition();
+            writeVarLong(output, BinaryTrackCodec.zigZag(position - previousPosition));
+            previousPosition = position;
+
+            detailsBytes.reset();
+            sourceManager.encodeTrack(track, detailsOutput);
+
+            writeVarInt(output, table.indexOf(sourceManager.getSourceName()));
+            writeVarInt(output, detailsBytes.size());
+            detailsBytes.writeTo(output);
+        }
+
+        output.flush();
+    }
+
+    static String urlTableEntry(String url, String identifier) {
+        int mode = urlMode(url, identifier);
+
+        if (mode == URL_TEMPLATE) {
+            int index = url.indexOf(identifier);
+            return url.substring(0, index) + '\u0000' + url.substring(index + identifier.length());
+        } else if (mode == URL_PREFIXED) {
+            return url.substring(0, prefixLength(url));
+        } else {
+            return null;
+        }
+    }
+
+    private static int urlMode(String url, String identifier) {
+        if (url == null) {
+            return URL_ABSENT;
+        } else if (identifier != null && !identifier.isEmpty() && url.contains(identifier) && url.indexOf('\u0000') < 0) {
+            return URL_TEMPLATE;
+        } else {
+            return URL_PREFIXED;
+        }
+    }
+
+    private static int prefixLength(String url) {
+        int query = url.lastIndexOf('=');
+        return query >= 0 ? query + 1 : url.lastIndexOf('/') + 1;
+    }
+
+    private static void writeUrl(DataOutput output, StringTable table, String url, String identifier, int mode)
+        throws IOException {
+
+        if (mode == URL_ABSENT) {
+            return;
+        }
+
+        writeVarInt(output, table.indexOf(urlTableEntry(url, identifier)));
+
+        if (mode == URL_PREFIXED) {
+            output.writeUTF(url.substring(prefixLength(url)));
+        }
+    }
+
+    static String readUrl(DataInput input, List<String> table, String identifier, int mode) throws IOException {
+        if (mode == URL_ABSENT) {
+            return null;
+        }
+
+        String entry = table.get(readVarInt(input));
+
+        if (mode == URL_TEMPLATE) {
+            int index = entry.indexOf('\u0000');
+            return entry.substring(0, index) + identifier + entry.substring(index + 1);
+        } else {
+            return entry + input.readUTF();
+        }
+    }
+
+    static void writeVarInt(DataOutput output, int value) throws IOException {
+        writeVarLong(output, value & 0xFFFFFFFFL);
+    }
+
+    static void writeVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        output.write((int) value);
+    }
+
+    static int readVarInt(DataInput input) throws IOException {
+        long value = readVarLong(input);
+
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Variable length integer " + value + " out of range.");
+        }
+
+        return (int) value;
+    }
+
+    static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed variable length integer.");
+    }
+
+    private static class StringTable {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        private void add(String text) {
+            if (text != null && !indices.containsKey(text)) {
+                indices.put(text, strings.size());
+                strings.add(text);
+            }
+        }
+
+        private int indexOf(String text) {
+            return indices.get(text);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.sedmelluq.discord.lavaplayer.track.encoding;
+
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.discord.lavaplayer.track.DecodedTrackHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.sedmelluq.discord.lavaplayer.track.encoding.TrackBatchCodec.*;
+
+/**
+ * Streaming decoder for a batch written by {@link TrackBatchCodec}. The string table is read when the reader is
+ * created, after which each call to {@link #next()} reads and decodes exactly one track. Tracks of sources which are
+ * not registered in the manager are returned as holders without a track, like with
+ * {@link AudioPlayerManager#decodeTrack(com.sedmelluq.discord.lavaplayer.tools.io.MessageInput)}. IO errors during
+ * iteration are thrown as {@link UncheckedIOException}.
+ */
+public class TrackBatchReader implements Iterator<DecodedTrackHolder> {
+    private final AudioPlayerManager manager;
+    private final DataInputStream input;
+    private final List<String> table;
+    private final int trackCount;
+    private int tracksRead;
+    private long previousLength;
+    private long previousPosition;
+    private byte[] detailsBuffer;
+
+    /**
+     * @param manager Manager whose source managers are used to decode the tracks
+     * @param stream  Stream to read the batch from
+     * @throws IOException On read error or if the batch has an unsupported version
+     */
+    public TrackBatchReader(AudioPlayerManager manager, InputStream stream) throws IOException {
+        this.manager = manager;
+        this.input = new DataInputStream(stream);
+
+        int version = input.readUnsignedByte();
+        if (version != BATCH_VERSION) {
+            throw new IOException("Unsupported track batch version " + version + ".");
+        }
+
+        int tableSize = readVarInt(input);
+        this.table = new ArrayList<>(Math.min(tableSize, 4096));
+
+        for (int i = 0; i < tableSize; i++) {
+            table.add(input.readUTF());
+        }
+
+        this.trackCount = readVarInt(input);
+        this.detailsBuffer = new byte[64];
+    }
+
+    /**
+     * @return Total number of tracks in the batch
+     */
+    public int getTrackCount() {
+        return trackCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return tracksRead < trackCount;
+    }
+
+    @Override
+    public DecodedTrackHolder next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            DecodedTrackHolder holder = readTrack();
+            tracksRead++;
+            return holder;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return Holders for all of the tracks which have not been read yet
+     */
+    public List<DecodedTrackHolder> readRemaining() {
+        List<DecodedTrackHolder> holders = new ArrayList<>(trackCount - tracksRead);
+
+        while (hasNext()) {
+            holders.add(next());
+        }
+
+        return holders;
+    }
+
+    private DecodedTrackHolder readTrack() throws IOException {
+        int flags = input.readUnsignedByte();
+        String title = input.readUTF();
+        String author = table.get(readVarInt(input));
+        String identifier = input.readUTF();
+        long length = Units.DURATION_MS_UNKNOWN;
+
+        if ((flags & FLAG_LENGTH_UNKNOWN) == 0) {
+            length = previousLength + BinaryTrackCodec.unZigZag(readVarLong(input));
+            previousLength = length;
+        }
+
+        String uri = readUrl(input, table, identifier, (flags >> URI_SHIFT) & 3);
+        String artworkUrl = readUrl(input, table, identifier, (flags >> ARTWORK_SHIFT) & 3);
+        String isrc = (flags & FLAG_ISRC) != 0 ? input.readUTF() : null;
+        Float replayGainDb = (flags & FLAG_REPLAY_GAIN) != 0 ? input.readFloat() : null;
+
+        long position = previousPosition + BinaryTrackCodec.unZigZag(readVarLong(input));
+        previousPosition = position;
+
+        String sourceName = table.get(readVarInt(input));
+        int detailsLength = readVarInt(input);
+
+        if (detailsBuffer.length < detailsLength) {
+            detailsBuffer = new byte[Math.max(detailsLength, detailsBuffer.length * 2)];
+        }
+
+        input.readFully(detailsBuffer, 0, detailsLength);
+
+        AudioTrackInfo trackInfo = new AudioTrackInfo(title, author, length, identifier, (flags & FLAG_STREAM) != 0,
+            uri, artworkUrl, isrc, replayGainDb);
+
+        AudioTrack track = decodeDetails(sourceName, trackInfo, detailsLength);
+
+        if (track != null) {
+            track.setPosition(position);
+        }
+
+        return new DecodedTrackHolder(track);
+    }
+
+    private AudioTrack decodeDetails(String sourceName, AudioTrackInfo trackInfo, int detailsLength) throws IOException {
+        for (AudioSourceManager sourceManager : manager.getSourceManagers()) {
+            if (sourceName.equals(sourceManager.getSourceName())) {
+                return sourceManager.decodeTrack(trackInfo,
+                    new DataInputStream(new ByteArrayInputStream(detailsBuffer, 0, detailsLength)));
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sedmelluq.discord.lavaplayer.track.encoding;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes the source specific details of a track, including the name of its source manager.
+ */
+@FunctionalInterface
+public interface TrackDetailsEncoder {
+    /**
+     * @param track  The track to encode
+     * @param output Output to write the details to
+     * @throws IOException On write error
+     */
+    void encodeDetails(AudioTrack track, DataOutput output) throws IOException;
+}
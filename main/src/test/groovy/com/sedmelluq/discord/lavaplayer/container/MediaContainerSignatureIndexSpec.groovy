@@ -0,0 +1,51 @@
+package com.sedmelluq.discord.lavaplayer.container
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class MediaContainerSignatureIndexSpec extends Specification {
+    static final SCANNING = ["plain", "mp3", "adts", "mpegts-adts"]
+
+    def index = new MediaContainerSignatureIndex(MediaContainer.asList())
+
+    def "only the probe with a matching signature and the scanning probes are candidates"() {
+        when:
+        def candidates = names(index.match(head, head.length))
+
+        then:
+        candidates == expected
+
+        where:
+        head                                                              | expected
+        bytes(0x1A, 0x45, 0xDF, 0xA3, 0x01)                               | ["matroska/webm"] + SCANNING
+        bytes(0x52, 0x49, 0x46, 0x46, 1, 2, 3, 4, 0x57, 0x41, 0x56, 0x45) | ["wav"] + SCANNING
+        bytes(0, 0, 0, 0x20, 0x66, 0x74, 0x79, 0x70)                      | ["mp4"] + SCANNING
+        ascii("fLaC")                                                     | ["flac"] + SCANNING
+        ascii("OggS")                                                     | ["ogg"] + SCANNING
+        ascii("#EXTINF:-1,Title")                                         | ["m3u"] + SCANNING
+        ascii("[Playlist]\nFile1=x")                                      | ["pls"] + SCANNING
+        ascii("ID3")                                                      | SCANNING
+    }
+
+    def "signatures longer than the head do not match"() {
+        given:
+        def head = bytes(0x52, 0x49, 0x46, 0x46, 1, 2, 3, 4, 0x57, 0x41, 0, 0)
+
+        expect:
+        !names(index.match(head, 10)).contains("wav")
+        names(index.match(new byte[0], 0)) == SCANNING
+    }
+
+    private static List<String> names(List<MediaContainerProbe> probes) {
+        return probes.collect { it.getName() }
+    }
+
+    private static byte[] bytes(int... values) {
+        return values.collect { (byte) it } as byte[]
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII)
+    }
+}
@@ -0,0 +1,34 @@
+package com.sedmelluq.discord.lavaplayer.container.matroska.format
+
+import spock.lang.Specification
+
+class MatroskaEbmlReaderSpec extends Specification {
+
+    def "codes are decoded the same way with and without a buffer"() {
+        given:
+        def data = bytes as byte[]
+
+        expect:
+        MatroskaEbmlReader.readEbmlInteger(input(data), null) == expected
+        MatroskaEbmlReader.readEbmlInteger(input(data), new byte[8], null) == expected
+
+        where:
+        bytes                                                              | expected
+        [0x81]                                                             | 1L
+        [0x40, 0x02]                                                       | 2L
+        [0x1A, 0x45, 0xDF, 0xA3]                                           | 0x0A45DFA3L
+        [0x01, 0x00, 0x00, 0x01, 0x23, 0x45, 0x67, 0x89]                   | 0x0123456789L
+    }
+
+    def "all element types are found by their ID"() {
+        expect:
+        MatroskaElementType.values().findAll { it != MatroskaElementType.Unknown }.every {
+            MatroskaElementType.find(it.id) == it
+        }
+        MatroskaElementType.find(0x7FFFFFFFL) == MatroskaElementType.Unknown
+    }
+
+    private static DataInputStream input(byte[] data) {
+        return new DataInputStream(new ByteArrayInputStream(data))
+    }
+}
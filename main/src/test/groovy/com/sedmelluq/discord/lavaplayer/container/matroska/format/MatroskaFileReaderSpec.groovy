@@ -0,0 +1,49 @@
+package com.sedmelluq.discord.lavaplayer.container.matroska.format
+
+import com.sedmelluq.discord.lavaplayer.source.local.MappedSeekableInputStream
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteArraySeekableInputStream
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class MatroskaFileReaderSpec extends Specification {
+    def data = (0..<100).collect { (byte) it } as byte[]
+
+    def "slices are read from streams which have the data in memory"() {
+        given:
+        def file = File.createTempFile("slice", ".mkv")
+        file.deleteOnExit()
+        Files.write(file.toPath(), data)
+        def stream = new MappedSeekableInputStream(file)
+        def reader = new MatroskaFileReader(stream)
+        stream.seek(10)
+
+        when:
+        def slice = reader.readSlice(20)
+
+        then:
+        slice.isDirect()
+        slice.remaining() == 20
+        slice.get(0) == 10
+        reader.getPosition() == 30
+
+        when:
+        stream.seek(90)
+
+        then:
+        reader.readSlice(20) == null
+        reader.getPosition() == 90
+
+        cleanup:
+        stream.close()
+    }
+
+    def "other streams do not provide slices"() {
+        given:
+        def reader = new MatroskaFileReader(new ByteArraySeekableInputStream(data))
+
+        expect:
+        reader.readSlice(20) == null
+        reader.getPosition() == 0
+    }
+}
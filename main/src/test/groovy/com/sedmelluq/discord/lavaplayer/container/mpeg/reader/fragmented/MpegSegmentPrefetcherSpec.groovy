@@ -0,0 +1,114 @@
+package com.sedmelluq.discord.lavaplayer.container.mpeg.reader.fragmented
+
+import com.sedmelluq.discord.lavaplayer.tools.io.RangeReadableInputStream
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+
+class MpegSegmentPrefetcherSpec extends Specification {
+    def data = (0..<1000).collect { (byte) it } as byte[]
+    def seekInfo = new MpegGlobalSeekInfo(1000, 100, (0..<9).collect { new MpegSegmentEntry(0, 100, 1000) } as MpegSegmentEntry[])
+    def requested = new ConcurrentLinkedQueue<Long>()
+    def fetchThreads = new ConcurrentLinkedQueue<Thread>()
+    def executor = Executors.newFixedThreadPool(2)
+
+    def source = new RangeReadableInputStream() {
+        @Override
+        boolean canReadRanges() {
+            return true
+        }
+
+        @Override
+        ExecutorService getRangeReadExecutor() {
+            return executor
+        }
+
+        @Override
+        int readRange(long position, byte[] buffer, int offset, int length) throws IOException {
+            requested.add(position)
+            fetchThreads.add(Thread.currentThread())
+            System.arraycopy(data, (int) position, buffer, offset, length)
+            return length
+        }
+    }
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def "segments are fetched by their ranges along with the following ones"() {
+        given:
+        def prefetcher = new MpegSegmentPrefetcher(source, seekInfo, 2)
+
+        when:
+        def segment = prefetcher.getSegment(0)
+        prefetcher.getSegment(1)
+        prefetcher.getSegment(2)
+
+        then:
+        segment[0] == data[100]
+        segment[99] == data[199]
+        requested.toSorted() == [100L, 200L, 300L, 400L, 500L]
+    }
+
+    def "segments stream keeps file positions"() {
+        given:
+        def prefetcher = new MpegSegmentPrefetcher(source, seekInfo, 0)
+        def stream = new MpegSegmentInputStream(prefetcher.getSegment(3), seekInfo.fileOffsets[3], 100)
+
+        when:
+        stream.seek(450)
+
+        then:
+        stream.getPosition() == 450
+        stream.read() == (data[450] & 0xFF)
+
+        when:
+        stream.seek(600)
+
+        then:
+        thrown(EOFException)
+    }
+
+    def "fetching fails with an IO error once the executor has been shut down"() {
+        given:
+        def prefetcher = new MpegSegmentPrefetcher(source, seekInfo, 1)
+        executor.shutdown()
+
+        when:
+        prefetcher.getSegment(0)
+
+        then:
+        thrown(IOException)
+    }
+
+    def "the requested segment is fetched on the calling thread"() {
+        given:
+        def prefetcher = new MpegSegmentPrefetcher(source, seekInfo, 0)
+
+        when:
+        prefetcher.getSegment(0)
+
+        then:
+        fetchThreads.toList() == [Thread.currentThread()]
+    }
+
+    def "segments are not fetched ahead while the executor is full"() {
+        given:
+        executor.shutdownNow()
+        executor = Stub(ExecutorService) {
+            execute(_) >> { throw new RejectedExecutionException() }
+        }
+        def prefetcher = new MpegSegmentPrefetcher(source, seekInfo, 2)
+
+        when:
+        def segment = prefetcher.getSegment(0)
+
+        then:
+        segment[0] == data[100]
+        requested.toList() == [100L]
+    }
+}
@@ -0,0 +1,50 @@
+package com.sedmelluq.discord.lavaplayer.container.mpeg.reader.standard
+
+import spock.lang.Specification
+
+class MpegSampleTableIndexSpec extends Specification {
+
+    def "chunks are mapped to samples and timecodes from the table runs"() {
+        given:
+        long[] offsets = [1000L, 5000L, 9000L, 6000000000L]
+        int[] chunkingFirst = [1, 3]
+        int[] chunkingCount = [2, 3]
+        int[] timeCounts = [4, 6]
+        int[] timeDeltas = [1024, 512]
+        int[] sizes = [10, 11, 12, 13, 70000, 15, 16, 17, 18, 19]
+
+        when:
+        def index = new MpegSampleTableIndex(offsets, chunkingFirst, chunkingCount, timeCounts, timeDeltas, 0, sizes)
+
+        then:
+        index.getChunkCount() == 4
+        index.getTotalDuration() == 4 * 1024 + 6 * 512
+        (0..3).collect { index.getChunkOffset(it) } == offsets as List
+        (0..3).collect { index.getChunkFirstSample(it) } == [0, 2, 4, 7]
+        (0..3).collect { index.getChunkSampleCount(it) } == [2, 2, 3, 3]
+        (0..3).collect { index.getChunkTimecode(it) } == [0L, 2048L, 4096L, 5632L]
+        (0..9).collect { index.getSampleSize(it) } == sizes as List
+    }
+
+    def "seek finds the chunk which contains the timecode"() {
+        given:
+        long[] offsets = [0L, 100L, 200L]
+        int[] chunking = [1]
+        int[] chunkingCount = [4]
+        int[] timeCounts = [12]
+        int[] timeDeltas = [1024]
+
+        def index = new MpegSampleTableIndex(offsets, chunking, chunkingCount, timeCounts, timeDeltas, 300, null)
+
+        expect:
+        index.findChunk(timecode) == chunk
+        index.getSampleSize(11) == 300
+
+        where:
+        timecode | chunk
+        0        | 0
+        4095     | 0
+        4096     | 1
+        12287    | 2
+    }
+}
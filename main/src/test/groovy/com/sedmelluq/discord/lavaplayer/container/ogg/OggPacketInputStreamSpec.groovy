@@ -0,0 +1,53 @@
+package com.sedmelluq.discord.lavaplayer.container.ogg
+
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteArraySeekableInputStream
+import com.sedmelluq.discord.lavaplayer.tools.io.StreamTools
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+class OggPacketInputStreamSpec extends Specification {
+
+    def "bisection seek finds the last page at or before the target"() {
+        given:
+        def output = new ByteArrayOutputStream()
+        output.write(page(OggPageHeader.FLAG_FIRST_PAGE, 0, 0, 19))
+        (1..400).each { output.write(page(it == 400 ? OggPageHeader.FLAG_LAST_PAGE : 0, 960L * it, it, 250)) }
+
+        def stream = new OggPacketInputStream(new ByteArraySeekableInputStream(output.toByteArray()), false)
+        stream.startNewTrack()
+        stream.startNewPacket()
+        StreamTools.readUntilEnd(stream, new byte[100], 0, 100)
+        stream.enableBisectionSeek(48000)
+
+        expect:
+        stream.seek(timecode) == expected
+
+        where:
+        timecode | expected
+        0        | 20
+        500      | 500
+        4000     | 4000
+        7999     | 7980
+        9000     | 8000
+    }
+
+    private static byte[] page(int flags, long granulePosition, int sequence, int payloadLength) {
+        def buffer = ByteBuffer.allocate(28 + payloadLength).order(ByteOrder.LITTLE_ENDIAN)
+        buffer.put("OggS".bytes)
+        buffer.put((byte) 0)
+        buffer.put((byte) flags)
+        buffer.putLong(granulePosition)
+        buffer.putInt(1)
+        buffer.putInt(sequence)
+        buffer.putInt(0)
+        buffer.put((byte) 1)
+        buffer.put((byte) payloadLength)
+        buffer.put(new byte[payloadLength])
+
+        def bytes = buffer.array()
+        buffer.putInt(22, OggPageChecksum.update(0, bytes, 0, bytes.length))
+        return bytes
+    }
+}
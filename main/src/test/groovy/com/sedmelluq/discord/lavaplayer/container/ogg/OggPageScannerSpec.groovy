@@ -0,0 +1,71 @@
+package com.sedmelluq.discord.lavaplayer.container.ogg
+
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+class OggPageScannerSpec extends Specification {
+
+    def "checksum matches the reference value"() {
+        expect:
+        OggPageChecksum.update(0, "123456789".bytes, 0, 9) == 0x89A1897F as int
+    }
+
+    def "capture patterns inside page data are not treated as pages"() {
+        given:
+        def payload = concat("xxOggS".bytes, new byte[100])
+        def first = page(0, 960, 0, payload)
+        def second = page(0, 1920, 1, payload)
+        def last = page(OggPageHeader.FLAG_LAST_PAGE, 2880, 2, new byte[50])
+        def data = concat(first, second, last)
+
+        when:
+        def seekPoints = new OggPageScanner(1000, data, data.length).createSeekTable(48000)
+        def sizeInfo = new OggPageScanner(1000, data, data.length).scanForSizeInfo(1000, 48000)
+
+        then:
+        seekPoints*.getPosition() == [1000L, 1000L + first.length, 1000L + first.length + second.length]
+        seekPoints*.getGranulePosition() == [960L, 1920L, 2880L]
+        sizeInfo.totalBytes == data.length
+        sizeInfo.totalSamples == 2880
+    }
+
+    def "pages with an invalid checksum are skipped when searching"() {
+        given:
+        def broken = page(0, 960, 0, new byte[20])
+        broken[40] = (byte) (broken[40] + 1)
+        def valid = page(0, 1920, 1, new byte[20])
+        def data = concat(broken, valid)
+
+        when:
+        def seekPoints = new OggPageScanner(0, data, data.length).createSeekTable(48000)
+
+        then:
+        seekPoints*.getGranulePosition() == [1920L]
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        def output = new ByteArrayOutputStream()
+        parts.each { output.write(it) }
+        return output.toByteArray()
+    }
+
+    private static byte[] page(int flags, long granulePosition, int sequence, byte[] payload) {
+        def buffer = ByteBuffer.allocate(28 + payload.length).order(ByteOrder.LITTLE_ENDIAN)
+        buffer.put("OggS".bytes)
+        buffer.put((byte) 0)
+        buffer.put((byte) flags)
+        buffer.putLong(granulePosition)
+        buffer.putInt(1)
+        buffer.putInt(sequence)
+        buffer.putInt(0)
+        buffer.put((byte) 1)
+        buffer.put((byte) payload.length)
+        buffer.put(payload)
+
+        def bytes = buffer.array()
+        buffer.putInt(22, OggPageChecksum.update(0, bytes, 0, bytes.length))
+        return bytes
+    }
+}
@@ -0,0 +1,54 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.player.event.TrackEndEvent
+import com.sedmelluq.discord.lavaplayer.player.event.TrackStartEvent
+import com.sedmelluq.discord.lavaplayer.tools.HierarchicalTimerWheel
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackEndReason
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicLong
+
+class AudioPlayerLifecycleManagerSpec extends Specification {
+    def now = System.currentTimeMillis()
+    def timerWheel = new HierarchicalTimerWheel(100, now)
+    def manager = new AudioPlayerLifecycleManager(timerWheel, new AtomicLong(5000))
+
+    def setup() {
+        manager.initialise()
+    }
+
+    def "a check reschedules itself until the track ends"() {
+        given:
+        def player = Mock(AudioPlayer)
+        def track = Mock(AudioTrack)
+        manager.onEvent(new TrackStartEvent(player, track))
+
+        when:
+        timerWheel.advance(now + 6000)
+
+        then:
+        1 * player.checkCleanup(5000)
+        timerWheel.size() == 1
+
+        when:
+        manager.onEvent(new TrackEndEvent(player, track, AudioTrackEndReason.FINISHED))
+
+        then:
+        timerWheel.size() == 0
+    }
+
+    def "a track starting during a check does not leave a second check behind"() {
+        given:
+        def player = Mock(AudioPlayer)
+        def track = Mock(AudioTrack)
+        manager.onEvent(new TrackStartEvent(player, track))
+
+        when:
+        timerWheel.advance(now + 6000)
+
+        then:
+        1 * player.checkCleanup(5000) >> { manager.onEvent(new TrackStartEvent(player, track)) }
+        timerWheel.size() == 1
+    }
+}
@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.player
 
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemLoadCache
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable
 import com.sedmelluq.discord.lavaplayer.track.AudioItem
@@ -178,4 +179,50 @@ class DefaultAudioPlayerManagerSpec extends Specification {
         then:
         sourceManager.shutdownCalled
     }
+
+    def "tracks are served from the item load cache after the first load"() {
+        given:
+        def sourceManager = Mock(AudioSourceManager)
+        def track = Mock(AudioTrack)
+        def decoded = Mock(AudioTrack)
+        sourceManager.getSourceName() >> "cached"
+        sourceManager.isTrackEncodable(_) >> true
+        track.getSourceManager() >> sourceManager
+        track.getInfo() >> new AudioTrackInfo("title", "author", 1000, "id", false, "uri")
+        manager.registerSourceManager(sourceManager)
+        manager.setItemLoadCache(new AudioItemLoadCache())
+
+        when:
+        def first = manager.loadItemSync("id")
+        def second = manager.loadItemSync("id")
+
+        then:
+        1 * sourceManager.loadItem(manager, _) >> track
+        1 * sourceManager.decodeTrack({ it.title == "title" }, _) >> decoded
+        first.is(track)
+        second.is(decoded)
+    }
+
+    def "a zero time to live disables the item load cache for that source"() {
+        given:
+        def sourceManager = Mock(AudioSourceManager)
+        def track = Mock(AudioTrack)
+        sourceManager.getSourceName() >> "uncached"
+        sourceManager.isTrackEncodable(_) >> true
+        track.getSourceManager() >> sourceManager
+        track.getInfo() >> new AudioTrackInfo("title", "author", 1000, "id", false, "uri")
+        manager.registerSourceManager(sourceManager)
+
+        def cache = new AudioItemLoadCache()
+        cache.setSourceTtl("uncached", 0)
+        manager.setItemLoadCache(cache)
+
+        when:
+        manager.loadItemSync("id")
+        manager.loadItemSync("id")
+
+        then:
+        2 * sourceManager.loadItem(manager, _) >> track
+        0 * sourceManager.decodeTrack(_, _)
+    }
 }
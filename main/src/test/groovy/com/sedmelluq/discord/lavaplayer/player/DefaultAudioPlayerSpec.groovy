@@ -9,6 +9,7 @@ import com.sedmelluq.discord.lavaplayer.player.event.AudioEvent
 import com.sedmelluq.discord.lavaplayer.player.event.TrackStartEvent
 import com.sedmelluq.discord.lavaplayer.player.event.TrackEndEvent
 import spock.lang.Specification
+import java.util.concurrent.LinkedBlockingQueue
 import java.util.concurrent.TimeUnit
 
 class DefaultAudioPlayerSpec extends Specification {
@@ -59,6 +60,61 @@ class DefaultAudioPlayerSpec extends Specification {
         1 * listener.onEvent({ it instanceof TrackEndEvent && it.endReason == AudioTrackEndReason.STOPPED })
     }
 
+    def "prepared track is executed once and handed over when started"() {
+        given:
+        def track = Mock(InternalAudioTrack)
+        def listener = Mock(AudioEventListener)
+        player.addListener(listener)
+
+        when:
+        player.prepareTrack(track)
+
+        then:
+        1 * track.assignExecutor(_, true)
+        0 * listener.onEvent(_)
+        player.getPlayingTrack() == null
+
+        when:
+        player.playTrack(track)
+
+        then:
+        0 * track.assignExecutor(_, _)
+        1 * listener.onEvent(_ as TrackStartEvent)
+        player.getPlayingTrack() == track
+    }
+
+    def "preparing another track discards the previous one"() {
+        given:
+        def first = Mock(InternalAudioTrack)
+        def second = Mock(InternalAudioTrack)
+        player.prepareTrack(first)
+
+        when:
+        player.prepareTrack(second)
+
+        then:
+        1 * first.stop()
+        1 * second.assignExecutor(_, true)
+    }
+
+    def "asynchronous dispatch delivers events in order on another thread"() {
+        given:
+        manager.setUseAsyncEventDispatch(true)
+        def received = new LinkedBlockingQueue()
+        player.addListener({ event -> received.put([event.class, Thread.currentThread()]) } as AudioEventListener)
+
+        when:
+        player.playTrack(Mock(InternalAudioTrack))
+        player.stopTrack()
+        def first = received.poll(5, TimeUnit.SECONDS)
+        def second = received.poll(5, TimeUnit.SECONDS)
+
+        then:
+        first[0] == TrackStartEvent
+        second[0] == TrackEndEvent
+        first[1] != Thread.currentThread()
+    }
+
     def "paused toggle halts play"() {
         given:
         player.setPaused(true)
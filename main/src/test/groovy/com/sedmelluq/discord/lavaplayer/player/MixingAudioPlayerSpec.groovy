@@ -0,0 +1,96 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats
+import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class MixingAudioPlayerSpec extends Specification {
+    def format = StandardAudioDataFormats.DISCORD_PCM_S16_BE
+    def manager = new DefaultAudioPlayerManager()
+
+    def setup() {
+        manager.getConfiguration().setOutputFormat(format)
+    }
+
+    def cleanup() {
+        manager.shutdown()
+    }
+
+    def "inputs are summed into one frame"() {
+        given:
+        def mixer = manager.createMixingPlayer()
+        mixer.createInput().playTrack(constantTrack(1000))
+        mixer.createInput().playTrack(constantTrack(-300))
+
+        when:
+        def frame = ByteBuffer.wrap(mixer.provide().getData())
+
+        then:
+        frame.getShort(0) == 700
+        frame.getShort(frame.limit() - 2) == 700
+    }
+
+    def "mix is scaled down instead of clipping"() {
+        given:
+        def mixer = manager.createMixingPlayer()
+        mixer.createInput().playTrack(constantTrack(30000))
+        mixer.createInput().playTrack(constantTrack(30000))
+
+        when:
+        def frame = ByteBuffer.wrap(mixer.provide().getData())
+
+        then:
+        frame.getShort(0) == Short.MAX_VALUE
+    }
+
+    def "no frame is provided after the player is destroyed"() {
+        given:
+        def mixer = manager.createMixingPlayer()
+        mixer.createInput().playTrack(constantTrack(1000))
+
+        expect:
+        mixer.provide() != null
+
+        when:
+        mixer.destroy()
+
+        then:
+        mixer.provide() == null
+        mixer.getInputs().isEmpty()
+    }
+
+    def "no frame is provided without playing inputs"() {
+        given:
+        def mixer = manager.createMixingPlayer()
+        def input = mixer.createInput()
+
+        expect:
+        mixer.provide() == null
+        mixer.getInputs() == [input]
+
+        when:
+        mixer.removeInput(input)
+
+        then:
+        mixer.getInputs().isEmpty()
+    }
+
+    private InternalAudioTrack constantTrack(int sample) {
+        def data = ByteBuffer.allocate(format.maximumChunkSize())
+
+        while (data.hasRemaining()) {
+            data.putShort((short) sample)
+        }
+
+        return Mock(InternalAudioTrack) {
+            provide(_ as MutableAudioFrame) >> { MutableAudioFrame frame ->
+                frame.store(data.array(), 0, data.capacity())
+                frame.setFormat(format)
+                true
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProvider
+import com.sedmelluq.discord.lavaplayer.track.playback.ImmutableAudioFrame
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class TrackCrossfaderSpec extends Specification {
+    def format = StandardAudioDataFormats.DISCORD_PCM_S16_BE
+
+    def "outgoing audio fades out while incoming audio fades in"() {
+        given:
+        def outgoing = Mock(AudioFrameProvider) {
+            provide(_ as MutableAudioFrame) >> { MutableAudioFrame frame ->
+                def data = constantFrame(10000)
+                frame.store(data, 0, data.length)
+                frame.setFormat(format)
+                true
+            }
+        }
+
+        def crossfader = new TrackCrossfader(outgoing, new AudioConfiguration(), format, 100)
+        def incoming = new ImmutableAudioFrame(0, constantFrame(0), 100, format)
+
+        when:
+        def samples = []
+
+        while (!crossfader.isFinished()) {
+            assert crossfader.fetchOutgoing(format)
+            def mixed = ByteBuffer.wrap(crossfader.mix(incoming).getData())
+            samples << mixed.getShort(0) << mixed.getShort(mixed.limit() - 2)
+        }
+
+        then:
+        samples.size() == 10
+        samples.first() == 10000
+        samples.last() < 200
+        (0..<samples.size() - 1).every { samples[it] >= samples[it + 1] }
+
+        cleanup:
+        crossfader.close()
+    }
+
+    def "frames of a different format are not mixed"() {
+        given:
+        def crossfader = new TrackCrossfader(Mock(AudioFrameProvider), new AudioConfiguration(), format, 100)
+
+        expect:
+        !crossfader.fetchOutgoing(StandardAudioDataFormats.COMMON_PCM_S16_BE)
+    }
+
+    private byte[] constantFrame(int sample) {
+        def buffer = ByteBuffer.allocate(format.maximumChunkSize())
+
+        while (buffer.hasRemaining()) {
+            buffer.putShort((short) sample)
+        }
+
+        return buffer.array()
+    }
+}
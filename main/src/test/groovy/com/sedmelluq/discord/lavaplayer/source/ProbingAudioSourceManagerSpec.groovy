@@ -57,6 +57,12 @@ class ProbingAudioSourceManagerSpec extends Specification {
         void encodeTrackFactoryPublic(MediaContainerDescriptor factory, DataOutput output) { encodeTrackFactory(factory, output) }
 
         MediaContainerDescriptor decodeTrackFactoryPublic(DataInput input) { decodeTrackFactory(input) }
+
+        MediaContainerDetectionResult getCachedDetectionPublic(String fingerprint) { getCachedDetection(fingerprint) }
+
+        MediaContainerDetectionResult cacheDetectionPublic(String fingerprint, MediaContainerDetectionResult result) {
+            cacheDetection(fingerprint, result)
+        }
     }
 
     private MediaContainerProbe probe(String name) {
@@ -166,4 +172,63 @@ class ProbingAudioSourceManagerSpec extends Specification {
         expect:
         manager.decodeTrackFactoryPublic(new DataInputStream(new ByteArrayInputStream(out.toByteArray()))) == null
     }
+
+    def "supported detection results are cached by fingerprint"() {
+        given:
+        manager.setDetectionCacheDuration(60000)
+        def trackInfo = new AudioTrackInfo("Title", "Author", 1000L, "id", false, "uri", null, null, null)
+        def result = supportedFormat(probe("mp3"), "params", trackInfo)
+
+        when:
+        def returned = manager.cacheDetectionPublic("file|1|100", result)
+
+        then:
+        returned.is(result)
+        manager.getCachedDetectionPublic("file|1|100").trackInfo.title == "Title"
+        manager.getCachedDetectionPublic("file|1|100").containerDescriptor.parameters == "params"
+        manager.getCachedDetectionPublic("file|2|100") == null
+    }
+
+    def "cached detection results do not share their track info"() {
+        given:
+        manager.setDetectionCacheDuration(60000)
+        def trackInfo = new AudioTrackInfo("Title", "Author", 1000L, "id", false, "uri", null, null, null)
+        manager.cacheDetectionPublic("file|1|100", supportedFormat(probe("mp3"), "params", trackInfo))
+
+        when:
+        trackInfo.title = "Changed before hit"
+        def first = manager.getCachedDetectionPublic("file|1|100")
+        first.trackInfo.title = "Changed by first"
+        def second = manager.getCachedDetectionPublic("file|1|100")
+
+        then:
+        !second.trackInfo.is(first.trackInfo)
+        second.trackInfo.title == "Title"
+    }
+
+    def "unsupported results are not cached and a zero duration disables the cache"() {
+        given:
+        manager.setDetectionCacheDuration(60000)
+        def trackInfo = new AudioTrackInfo("Title", "Author", 1000L, "id", false, "uri", null, null, null)
+
+        when:
+        manager.cacheDetectionPublic("unsupported", unsupportedFormat(probe("mp3"), "Bitrate too high."))
+        manager.cacheDetectionPublic("supported", supportedFormat(probe("mp3"), null, trackInfo))
+        manager.setDetectionCacheDuration(0)
+
+        then:
+        manager.getCachedDetectionPublic("unsupported") == null
+        manager.getCachedDetectionPublic("supported") == null
+    }
+
+    def "detection results are not cached by default"() {
+        given:
+        def trackInfo = new AudioTrackInfo("Title", "Author", 1000L, "id", false, "uri", null, null, null)
+
+        when:
+        manager.cacheDetectionPublic("file|1|100", supportedFormat(probe("mp3"), "params", trackInfo))
+
+        then:
+        manager.getCachedDetectionPublic("file|1|100") == null
+    }
 }
@@ -0,0 +1,110 @@
+package com.sedmelluq.discord.lavaplayer.source.local
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class LocalLibraryIndexSpec extends Specification {
+    def sourceManager = new LocalAudioSourceManager()
+    def index = new LocalLibraryIndex(sourceManager, 2)
+    File root
+
+    def setup() {
+        root = Files.createTempDirectory("library").toFile()
+        new File(root, "albums/first").mkdirs()
+        writeWav(new File(root, "albums/first/one.wav"))
+        writeWav(new File(root, "albums/first/two.wav"))
+        new File(root, "cover.bin").bytes = new byte[64]
+    }
+
+    def cleanup() {
+        index.shutdown()
+        root.deleteDir()
+    }
+
+    def "only new or modified files are probed on refresh"() {
+        given:
+        def file = new File(root, "albums/first/one.wav")
+
+        expect:
+        index.refresh(root) == 3
+        index.size() == 3
+        index.getTrack(file).getInfo().identifier == file.absolutePath
+        index.getTrack(new File(root, "cover.bin")) == null
+        index.refresh(root) == 0
+
+        when:
+        file.setLastModified(file.lastModified() - 10000)
+
+        then:
+        index.getTrack(file) == null
+        index.refresh(root) == 1
+        index.getTrack(file) != null
+    }
+
+    def "removed files are dropped from the index on refresh"() {
+        given:
+        index.refresh(root)
+
+        when:
+        new File(root, "albums/first/two.wav").delete()
+        index.refresh(new File(root, "albums"))
+
+        then:
+        index.size() == 2
+        index.getTracks(root)*.getInfo()*.identifier == [new File(root, "albums/first/one.wav").absolutePath]
+    }
+
+    def "each track from the index gets its own track info"() {
+        given:
+        def file = new File(root, "albums/first/one.wav")
+        index.refresh(root)
+
+        when:
+        def first = index.getTrack(file)
+        first.getInfo().title = "Changed"
+
+        then:
+        index.getTrack(file).getInfo().title != "Changed"
+        index.getTracks(root).every { it.getInfo().title != "Changed" }
+    }
+
+    def "saved index is loaded without probing the files again"() {
+        given:
+        def indexFile = new File(root, "index.bin")
+        index.refresh(root)
+        index.save(indexFile)
+        def loaded = new LocalLibraryIndex(sourceManager, 1)
+
+        when:
+        loaded.load(indexFile)
+
+        then:
+        loaded.size() == 3
+        loaded.getTracks(new File(root, "albums")).size() == 2
+        loaded.getTrack(new File(root, "albums/first/two.wav")).getInfo().length == index.getTrack(new File(root, "albums/first/two.wav")).getInfo().length
+
+        cleanup:
+        loaded.shutdown()
+    }
+
+    private static void writeWav(File file) {
+        def dataSize = 44100 * 4
+        def header = new ByteArrayOutputStream()
+        def output = new DataOutputStream(header)
+        output.writeBytes("RIFF")
+        output.writeInt(Integer.reverseBytes(36 + dataSize))
+        output.writeBytes("WAVEfmt ")
+        output.writeInt(Integer.reverseBytes(16))
+        output.writeShort(Short.reverseBytes((short) 1))
+        output.writeShort(Short.reverseBytes((short) 2))
+        output.writeInt(Integer.reverseBytes(44100))
+        output.writeInt(Integer.reverseBytes(44100 * 4))
+        output.writeShort(Short.reverseBytes((short) 4))
+        output.writeShort(Short.reverseBytes((short) 16))
+        output.writeBytes("data")
+        output.writeInt(Integer.reverseBytes(dataSize))
+        output.write(new byte[dataSize])
+        file.bytes = header.toByteArray()
+    }
+}
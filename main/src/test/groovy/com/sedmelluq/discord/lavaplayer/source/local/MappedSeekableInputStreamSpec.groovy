@@ -0,0 +1,55 @@
+package com.sedmelluq.discord.lavaplayer.source.local
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class MappedSeekableInputStreamSpec extends Specification {
+    File file
+
+    def setup() {
+        file = File.createTempFile("mapped", ".bin")
+        file.deleteOnExit()
+        Files.write(file.toPath(), (0..<1000).collect { (byte) it } as byte[])
+    }
+
+    def "reads and seeks within the mapped file"() {
+        given:
+        def stream = new MappedSeekableInputStream(file)
+        def buffer = new byte[10]
+
+        expect:
+        stream.getContentLength() == 1000
+        stream.read() == 0
+
+        when:
+        stream.seek(995)
+
+        then:
+        stream.read(buffer, 0, 10) == 5
+        (buffer[0] & 0xFF) == (995 & 0xFF)
+        stream.read() == -1
+        stream.read(buffer, 0, 10) == -1
+
+        cleanup:
+        stream.close()
+    }
+
+    def "slices are read-only views which advance the position"() {
+        given:
+        def stream = new MappedSeekableInputStream(file)
+        stream.seek(256)
+
+        when:
+        def slice = stream.readSlice(4)
+
+        then:
+        slice.isReadOnly()
+        slice.remaining() == 4
+        slice.get(1) == 1
+        stream.getPosition() == 260
+
+        cleanup:
+        stream.close()
+    }
+}
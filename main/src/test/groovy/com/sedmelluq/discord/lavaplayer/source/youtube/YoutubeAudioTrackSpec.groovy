@@ -0,0 +1,75 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube
+
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import org.apache.hc.client5.http.classic.methods.HttpGet
+import org.apache.hc.core5.http.ClassicHttpResponse
+import org.apache.hc.core5.http.ContentType
+import org.apache.hc.core5.http.HttpEntity
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class YoutubeAudioTrackSpec extends Specification {
+    def detailsLoader = Stub(YoutubeTrackDetailsLoader)
+    def cipherManager = new YoutubeSignatureCipherManager()
+    def sourceManager = new YoutubeAudioSourceManager(true, null, null, detailsLoader, new YoutubeSearchProvider(),
+        new YoutubeSearchMusicProvider(), cipherManager, new DefaultYoutubePlaylistLoader(), new DefaultYoutubeLinkRouter(),
+        new YoutubeMixProvider())
+    def httpInterface = Stub(HttpInterface)
+    def fetchedScripts = []
+
+    def setup() {
+        def entity = Stub(HttpEntity) {
+            getContent() >> {
+                new ByteArrayInputStream(YoutubeSignatureCipherManagerSpec.SCRIPT.getBytes(StandardCharsets.UTF_8))
+            }
+        }
+
+        def response = Stub(ClassicHttpResponse) {
+            getCode() >> 200
+            getEntity() >> entity
+        }
+
+        httpInterface.execute(_) >> { HttpGet request ->
+            fetchedScripts.add(request.getUri().toString())
+            return response
+        }
+    }
+
+    def cleanup() {
+        sourceManager.shutdown()
+    }
+
+    def "each track loads the cipher of the player script of its own details"() {
+        given:
+        detailsLoader.loadDetails(_, "first", true, _) >> details("/s/player/first/base.js")
+        detailsLoader.loadDetails(_, "second", true, _) >> details("/s/player/second/base.js")
+
+        when:
+        def firstFormat = createTrack("first").loadBestFormatWithUrl(httpInterface)
+        def secondFormat = createTrack("second").loadBestFormatWithUrl(httpInterface)
+        createTrack("first").loadBestFormatWithUrl(httpInterface)
+
+        then:
+        fetchedScripts == ["https://www.youtube.com/s/player/first/base.js", "https://www.youtube.com/s/player/second/base.js"]
+        firstFormat.signedUrl.query.contains("sig=dfba")
+        secondFormat.signedUrl.query.contains("sig=dfba")
+        cipherManager.getCachedCiphers().keySet() == ["/s/player/first/base.js", "/s/player/second/base.js"] as Set
+    }
+
+    private YoutubeAudioTrack createTrack(String videoId) {
+        return new YoutubeAudioTrack(new AudioTrackInfo("title", "author", 1000, videoId, false,
+            "https://www.youtube.com/watch?v=" + videoId), sourceManager)
+    }
+
+    private YoutubeTrackDetails details(String playerScript) {
+        def format = new YoutubeTrackFormat(ContentType.parse('audio/mp4; codecs="mp4a.40.2"'), 128000, 1000, 2,
+            "https://example.com/videoplayback", null, "abcdef", "sig", true)
+
+        return Stub(YoutubeTrackDetails) {
+            getPlayerScript() >> playerScript
+            getFormats(_, _) >> [format]
+        }
+    }
+}
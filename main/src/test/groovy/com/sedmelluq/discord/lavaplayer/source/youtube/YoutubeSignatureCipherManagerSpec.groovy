@@ -0,0 +1,100 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube
+
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface
+import org.apache.hc.core5.http.ClassicHttpResponse
+import org.apache.hc.core5.http.HttpEntity
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class YoutubeSignatureCipherManagerSpec extends Specification {
+    static final String SCRIPT_URL = "/s/player/test/base.js"
+    static final String SCRIPT = '''var Xy={rV:function(a){a.reverse()},sW:function(a,b){var c=a[0];a[0]=a[b%a.length];a[b%a.length]=c},
+sP:function(a,b){a.splice(0,b)}};Fn=function(a){a=a.split("");Xy.rV(a,1);Xy.sW(a,3);Xy.sP(a,2);return a.join("")};
+var cfg={signatureTimestamp:19834};'''
+
+    def manager = new YoutubeSignatureCipherManager()
+    def httpInterface = Stub(HttpInterface)
+    def fetches = new AtomicInteger()
+    def fetchStarted = new CountDownLatch(1)
+    def releaseFetch = new CountDownLatch(1)
+
+    def "concurrent loads of the same script make one fetch and share its cipher"() {
+        given:
+        def response = scriptResponse(200)
+        httpInterface.execute(_) >> { fetch(response) }
+
+        when:
+        def results = loadConcurrently(4)
+
+        then:
+        fetches.get() == 1
+        results.every { it.is(results[0]) }
+        results[0].apply("abcdef") == "dfba"
+        results[0].getTimestamp() == "19834"
+    }
+
+    def "concurrent loads of the same script share the failure of its fetch"() {
+        given:
+        def response = scriptResponse(500)
+        httpInterface.execute(_) >> { fetch(response) }
+
+        when:
+        def results = loadConcurrently(4)
+
+        then:
+        fetches.get() == 1
+        results.every { it instanceof IOException }
+        !manager.hasCachedCipher(SCRIPT_URL)
+    }
+
+    private List<Object> loadConcurrently(int count) {
+        def results = new Object[count]
+        def threads = (0..<count).collect { index ->
+            new Thread({
+                try {
+                    results[index] = manager.getExtractedScript(httpInterface, SCRIPT_URL)
+                } catch (Exception e) {
+                    results[index] = e
+                }
+            })
+        }
+
+        threads[0].start()
+        assert fetchStarted.await(5, TimeUnit.SECONDS)
+
+        // The other loads only start once the fetch is in progress and must wait for it instead of fetching again
+        def waiting = threads.drop(1)
+        waiting.each { it.start() }
+        waiting.each { thread ->
+            while (thread.alive && thread.state != Thread.State.WAITING) {
+                Thread.sleep(1)
+            }
+        }
+
+        releaseFetch.countDown()
+        threads.each { it.join(5000) }
+        return results as List
+    }
+
+    private ClassicHttpResponse fetch(ClassicHttpResponse response) {
+        fetches.incrementAndGet()
+        fetchStarted.countDown()
+        releaseFetch.await(5, TimeUnit.SECONDS)
+        return response
+    }
+
+    private ClassicHttpResponse scriptResponse(int code) {
+        def entity = Stub(HttpEntity) {
+            getContent() >> { new ByteArrayInputStream(SCRIPT.getBytes(StandardCharsets.UTF_8)) }
+        }
+
+        return Stub(ClassicHttpResponse) {
+            getCode() >> code
+            getEntity() >> entity
+        }
+    }
+}
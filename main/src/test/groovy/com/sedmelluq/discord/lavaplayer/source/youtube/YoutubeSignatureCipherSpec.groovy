@@ -0,0 +1,56 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube
+
+import org.mozilla.javascript.engine.RhinoScriptEngineFactory
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class YoutubeSignatureCipherSpec extends Specification {
+    // Uses ES6 syntax and assigns an undeclared global, like the n functions of player scripts do
+    static final String N_FUNCTION = '''function(a){let b=a.split("");const c=[(d,e)=>{e=(e%d.length+d.length)%d.length;
+        d.splice(0,1,d.splice(e,1,d[0])[0])},d=>{d.reverse()}];c[0](b,7);c[1](b);calls=(typeof calls==="number"?calls:0)+1;
+        return `${b.join("")}`}'''
+
+    def cipher = new YoutubeSignatureCipher()
+    def engine = new RhinoScriptEngineFactory().getScriptEngine()
+
+    def setup() {
+        cipher.setNFunction(N_FUNCTION)
+    }
+
+    def "transform gives the same result as the script engine"() {
+        expect:
+        cipher.transform(input) == cipher.transform(input, engine)
+
+        where:
+        input << ["abcdefghijk", "Xy1-_AbCdEfGhIjKl", "0123456789"]
+    }
+
+    def "concurrent transforms give the same results as the script engine"() {
+        given:
+        def inputs = (0..<200).collect { "input${it}abcdefgh".toString() }
+        def expected = inputs.collect { cipher.transform(it, engine) }
+        def executor = Executors.newFixedThreadPool(8)
+
+        when:
+        def results = inputs
+            .collect { input -> executor.submit({ cipher.transform(input) } as Callable<String>) }
+            .collect { it.get() }
+
+        then:
+        results == expected
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    def "undeclared globals do not leak between transforms"() {
+        given:
+        cipher.setNFunction('function(a){seen=(typeof seen==="string"?seen:"")+a;return seen}')
+
+        expect:
+        cipher.transform("abc") == "abc"
+        cipher.transform("def") == "def"
+    }
+}
@@ -0,0 +1,106 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube
+
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class YoutubeStateSnapshotStoreSpec extends Specification {
+
+    def "ciphers and visitor id survive a save and restore"() {
+        given:
+        def file = Files.createTempDirectory("yt-snapshot").resolve("state.bin")
+        def cipher = new YoutubeSignatureCipher()
+        cipher.setTimestamp("19876")
+        cipher.setNFunction("function(a){return a}")
+        cipher.addOperation(new YoutubeCipherOperation(YoutubeCipherOperationType.SWAP, 7))
+        cipher.addOperation(new YoutubeCipherOperation(YoutubeCipherOperationType.REVERSE, 0))
+
+        def cipherManager = new YoutubeSignatureCipherManager()
+        cipherManager.addCachedCipher("/s/player/abc/base.js", cipher)
+
+        def tracker = new YoutubeAccessTokenTracker(Mock(HttpInterfaceManager), null, null)
+        def state = new YoutubeAccessTokenTracker.State()
+        state.visitorId = "visitor"
+        state.visitorIdUpdatedAt = System.currentTimeMillis()
+        tracker.restoreState(state)
+
+        when:
+        new YoutubeStateSnapshotStore(file, cipherManager, tracker).save()
+
+        def restoredManager = new YoutubeSignatureCipherManager()
+        def restoredTracker = new YoutubeAccessTokenTracker(Mock(HttpInterfaceManager), null, null)
+        def restored = new YoutubeStateSnapshotStore(file, restoredManager, restoredTracker).restore()
+        def restoredCipher = restoredManager.getCachedCiphers()["/s/player/abc/base.js"]
+
+        then:
+        restored
+        restoredCipher.getTimestamp() == "19876"
+        restoredCipher.getNFunction() == "function(a){return a}"
+        restoredCipher.getOperations()*.type == [YoutubeCipherOperationType.SWAP, YoutubeCipherOperationType.REVERSE]
+        restoredCipher.apply("abcdefgh") == cipher.apply("abcdefgh")
+        restoredTracker.getState().visitorId == "visitor"
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    def "access token is only restored for the account it was issued for"() {
+        given:
+        def file = Files.createTempDirectory("yt-snapshot").resolve("state.bin")
+        def tracker = new YoutubeAccessTokenTracker(Mock(HttpInterfaceManager), "first@example.com", "password")
+        def state = new YoutubeAccessTokenTracker.State()
+        state.accountId = tracker.getState().accountId
+        state.accessToken = "token"
+        state.accessTokenUpdatedAt = System.currentTimeMillis()
+        state.accessTokenRefreshInterval = 3600000L
+        tracker.restoreState(state)
+        new YoutubeStateSnapshotStore(file, null, tracker).save()
+
+        when:
+        def sameAccount = new YoutubeAccessTokenTracker(Mock(HttpInterfaceManager), "first@example.com", "password")
+        def otherAccount = new YoutubeAccessTokenTracker(Mock(HttpInterfaceManager), "second@example.com", "password")
+        new YoutubeStateSnapshotStore(file, null, sameAccount).restore()
+        new YoutubeStateSnapshotStore(file, null, otherAccount).restore()
+
+        then:
+        sameAccount.getState().accessToken == "token"
+        otherAccount.getState().accessToken == null
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    def "restored ciphers keep their age"() {
+        given:
+        def file = Files.createTempDirectory("yt-snapshot").resolve("state.bin")
+        def fresh = new YoutubeSignatureCipher()
+        def stale = new YoutubeSignatureCipher()
+        stale.setFetchedAt(System.currentTimeMillis() - 2000000L)
+
+        def cipherManager = new YoutubeSignatureCipherManager()
+        cipherManager.addCachedCipher("/s/player/fresh/base.js", fresh)
+        cipherManager.addCachedCipher("/s/player/stale/base.js", stale)
+        new YoutubeStateSnapshotStore(file, cipherManager, null).save()
+
+        when:
+        def restoredManager = new YoutubeSignatureCipherManager()
+        restoredManager.setCipherTtl(1000000L)
+        new YoutubeStateSnapshotStore(file, restoredManager, null).restore()
+
+        then:
+        restoredManager.getCachedCiphers()["/s/player/fresh/base.js"].getFetchedAt() == fresh.getFetchedAt()
+        !restoredManager.hasCachedCipher("/s/player/stale/base.js")
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    def "a missing snapshot file is not restored"() {
+        given:
+        def file = Files.createTempDirectory("yt-snapshot").resolve("missing.bin")
+
+        expect:
+        !new YoutubeStateSnapshotStore(file, new YoutubeSignatureCipherManager(), null).restore()
+    }
+}
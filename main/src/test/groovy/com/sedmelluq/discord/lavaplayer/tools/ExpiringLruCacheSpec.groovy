@@ -0,0 +1,58 @@
+package com.sedmelluq.discord.lavaplayer.tools
+
+import spock.lang.Specification
+
+class ExpiringLruCacheSpec extends Specification {
+
+    def "get returns a value that was put and has not expired"() {
+        given:
+        def cache = new ExpiringLruCache<String, String>(4)
+
+        when:
+        cache.put("a", "1", Long.MAX_VALUE)
+
+        then:
+        cache.get("a") == "1"
+    }
+
+    def "get treats an expired entry as absent and removes it"() {
+        given:
+        def cache = new ExpiringLruCache<String, String>(4)
+
+        when:
+        cache.put("a", "1", 0)
+
+        then:
+        cache.get("a") == null
+        cache.size() == 0
+    }
+
+    def "the least recently used entry is evicted when the cache is full"() {
+        given:
+        def cache = new ExpiringLruCache<String, String>(2)
+        cache.put("a", "1", Long.MAX_VALUE)
+        cache.put("b", "2", Long.MAX_VALUE)
+        cache.get("a")
+
+        when:
+        cache.put("c", "3", Long.MAX_VALUE)
+
+        then:
+        cache.get("a") == "1"
+        cache.get("b") == null
+        cache.get("c") == "3"
+    }
+
+    def "lowering the maximum size evicts excess entries immediately"() {
+        given:
+        def cache = new ExpiringLruCache<String, String>(3)
+        ["a", "b", "c"].each { cache.put(it, it, Long.MAX_VALUE) }
+
+        when:
+        cache.setMaximumSize(1)
+
+        then:
+        cache.size() == 1
+        cache.get("c") == "c"
+    }
+}
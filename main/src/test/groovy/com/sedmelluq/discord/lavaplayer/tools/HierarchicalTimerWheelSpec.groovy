@@ -0,0 +1,98 @@
+package com.sedmelluq.discord.lavaplayer.tools
+
+import spock.lang.Specification
+
+class HierarchicalTimerWheelSpec extends Specification {
+
+    def "tasks run at the first tick at or after their deadline"() {
+        given:
+        def wheel = new HierarchicalTimerWheel(10, 0)
+        def fired = []
+        [15, 640, 41000, 2700000].each { deadline -> wheel.schedule(deadline, { fired << deadline }) }
+
+        when:
+        wheel.advance(10)
+
+        then:
+        fired.isEmpty()
+
+        when:
+        wheel.advance(20)
+
+        then:
+        fired == [15]
+
+        when:
+        wheel.advance(639)
+
+        then:
+        fired == [15]
+
+        when:
+        wheel.advance(640)
+        wheel.advance(40990)
+
+        then:
+        fired == [15, 640]
+
+        when:
+        wheel.advance(41000)
+        wheel.advance(2700000)
+
+        then:
+        fired == [15, 640, 41000, 2700000]
+        wheel.size() == 0
+    }
+
+    def "deadlines beyond the range of the wheel are reinserted until due"() {
+        given:
+        def wheel = new HierarchicalTimerWheel(1, 0)
+        def fired = false
+        def deadline = 64L * 64 * 64 * 64 + 5000
+        wheel.schedule(deadline, { fired = true })
+
+        when:
+        wheel.advance(deadline - 1)
+
+        then:
+        !fired
+        wheel.size() == 1
+
+        when:
+        wheel.advance(deadline)
+
+        then:
+        fired
+    }
+
+    def "cancelled tasks do not run"() {
+        given:
+        def wheel = new HierarchicalTimerWheel(10, 0)
+        def fired = []
+        def first = wheel.schedule(100, { fired << 1 })
+        wheel.schedule(100, { fired << 2 })
+
+        when:
+        def cancelled = first.cancel()
+        wheel.advance(200)
+
+        then:
+        cancelled
+        !first.cancel()
+        fired == [2]
+    }
+
+    def "tasks can schedule new tasks while running"() {
+        given:
+        def wheel = new HierarchicalTimerWheel(10, 0)
+        def fired = []
+        wheel.schedule(10, { fired << 1; wheel.schedule(30, { fired << 2 }) })
+
+        when:
+        wheel.advance(10)
+        wheel.advance(30)
+
+        then:
+        fired == [1, 2]
+    }
+}
@@ -0,0 +1,112 @@
+package com.sedmelluq.discord.lavaplayer.tools
+
+import spock.lang.Specification
+
+class JsonPathExtractorSpec extends Specification {
+
+    def "only the selected values are kept at their original locations"() {
+        given:
+        def extractor = new JsonPathExtractor("/a/b", "/list/1/name")
+
+        when:
+        def json = extractor.extract('{"skip":{"x":[1,2,3]},"a":{"b":{"c":5},"d":6},"list":[{"name":"x"},{"name":"y","z":1}]}')
+
+        then:
+        json.get("a").get("b").get("c").asLong(0) == 5
+        json.get("a").get("d").isNull()
+        json.get("skip").isNull()
+        json.get("list").index(0).isNull()
+        json.get("list").index(1).get("name").text() == "y"
+        json.get("list").index(1).get("z").isNull()
+    }
+
+    def "wildcard segment matches every array element"() {
+        given:
+        def extractor = new JsonPathExtractor("/*/id")
+
+        when:
+        def json = extractor.extract('[{"id":"1","big":[1,2]},{"id":"2"}]')
+
+        then:
+        json.values().collect { it.get("id").text() } == ["1", "2"]
+        json.index(0).get("big").isNull()
+    }
+
+    def "pointer escapes are decoded"() {
+        given:
+        def extractor = new JsonPathExtractor("/a~1b/c~0d")
+
+        when:
+        def json = extractor.extract('{"a/b":{"c~d":true}}')
+
+        then:
+        json.get("a/b").get("c~d").asBoolean(false)
+    }
+
+    def "an empty object is returned when nothing matches"() {
+        given:
+        def extractor = new JsonPathExtractor("/missing")
+
+        when:
+        def json = extractor.extract('{"present":1}')
+
+        then:
+        json.isMap()
+        json.get("missing").isNull()
+    }
+
+    def "parsing stops after all exact pointers have been found"() {
+        given:
+        def extractor = new JsonPathExtractor("/first")
+
+        when:
+        def json = extractor.extract('{"first":1,"second":')
+
+        then:
+        json.get("first").asLong(0) == 1
+    }
+
+    def "track lists with only wildcard pointers are read completely"() {
+        given:
+        def extractor = new JsonPathExtractor("/*/id", "/*/title", "/*/user", "/*/media")
+
+        when:
+        def json = extractor.extract('[' +
+            '{"id":1,"title":"First","user":{"username":"a"},"media":{"transcodings":[]},"waveform_url":"x"},' +
+            '{"id":2,"title":"Second","user":{"username":"b"},"media":{"transcodings":[]}},' +
+            '{"id":3,"title":"Third","user":{"username":"c"},"media":{"transcodings":[]}}]')
+
+        then:
+        json.values().collect { it.get("id").asLong(0) } == [1L, 2L, 3L]
+        json.values().collect { it.get("title").text() } == ["First", "Second", "Third"]
+        json.index(2).get("user").get("username").text() == "c"
+        json.index(0).get("waveform_url").isNull()
+    }
+
+    def "exact pointers inside a document with wildcard pointers do not end parsing early"() {
+        given:
+        def extractor = new JsonPathExtractor("/meta/count", "/items/*/id")
+
+        when:
+        def json = extractor.extract('{"meta":{"count":2,"other":{"x":[1]}},"items":[{"id":"a"},{"id":"b"}]}')
+
+        then:
+        json.get("meta").get("count").asLong(0) == 2
+        json.get("items").values().collect { it.get("id").text() } == ["a", "b"]
+    }
+
+    def "a name with its own pointer is also matched by wildcard pointers"() {
+        given:
+        def extractor = new JsonPathExtractor("/a/b/c", "/a/*/d")
+
+        when:
+        def json = extractor.extract('{"a":{"b":{"c":1,"d":2,"e":3},"x":{"c":4,"d":5}}}')
+
+        then:
+        json.get("a").get("b").get("c").asLong(0) == 1
+        json.get("a").get("b").get("d").asLong(0) == 2
+        json.get("a").get("b").get("e").isNull()
+        json.get("a").get("x").get("c").isNull()
+        json.get("a").get("x").get("d").asLong(0) == 5
+    }
+}
@@ -0,0 +1,105 @@
+package com.sedmelluq.discord.lavaplayer.tools
+
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist
+import com.sedmelluq.discord.lavaplayer.track.AudioReference
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class SearchResultCacheSpec extends Specification {
+
+    def info = new AudioTrackInfo("title", "author", 1000, "id", false, "uri")
+
+    def "a repeated query is served from the cache with new tracks"() {
+        given:
+        def cache = new SearchResultCache(10, 60000)
+        def searches = new AtomicInteger()
+        def factory = { AudioTrackInfo trackInfo -> Mock(AudioTrack) { getInfo() >> trackInfo } }
+        def search = {
+            searches.incrementAndGet()
+            new BasicAudioPlaylist("Search results", [factory(info)], null, true)
+        }
+
+        when:
+        def first = cache.search("test", "Some  Song", factory, search) as AudioPlaylist
+        def second = cache.search("test", " some song ", factory, search) as AudioPlaylist
+
+        then:
+        searches.get() == 1
+        second.getName() == "Search results"
+        second.isSearchResult()
+        second.getTracks()[0].getInfo().identifier == info.identifier
+        second.getTracks()[0].getInfo().title == info.title
+        !second.getTracks()[0].is(first.getTracks()[0])
+    }
+
+    def "changes to track info by one caller are not seen by others"() {
+        given:
+        def cache = new SearchResultCache(10, 60000)
+        def factory = { AudioTrackInfo trackInfo -> Mock(AudioTrack) { getInfo() >> trackInfo } }
+        def search = { new BasicAudioPlaylist("Search results", [factory(info)], null, true) }
+
+        when:
+        def first = cache.search("test", "query", factory, search) as AudioPlaylist
+        first.getTracks()[0].getInfo().title = "changed"
+        def second = cache.search("test", "query", factory, search) as AudioPlaylist
+        second.getTracks()[0].getInfo().title = "changed again"
+        def third = cache.search("test", "query", factory, search) as AudioPlaylist
+
+        then:
+        third.getTracks()[0].getInfo().title == "title"
+        !third.getTracks()[0].getInfo().is(second.getTracks()[0].getInfo())
+    }
+
+    def "concurrent searches for the same query are coalesced"() {
+        given:
+        def cache = new SearchResultCache(10, 60000)
+        def searches = new AtomicInteger()
+        def release = new CountDownLatch(1)
+        def executor = Executors.newFixedThreadPool(4)
+        def search = {
+            searches.incrementAndGet()
+            release.await()
+            AudioReference.NO_TRACK
+        }
+
+        when:
+        def futures = (1..4).collect { executor.submit({ cache.search("test", "query", { null }, search) }) }
+        Thread.sleep(100)
+        release.countDown()
+        def results = futures.collect { it.get(5, TimeUnit.SECONDS) }
+
+        then:
+        searches.get() == 1
+        results.every { it == AudioReference.NO_TRACK }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "errors are not cached and a zero ttl disables caching"() {
+        given:
+        def cache = new SearchResultCache(10, 60000)
+        def searches = new AtomicInteger()
+
+        when:
+        cache.search("test", "query", { null }, { searches.incrementAndGet(); throw new IllegalStateException() })
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        cache.search("test", "query", { null }, { searches.incrementAndGet(); AudioReference.NO_TRACK })
+        cache.setTtl(0)
+        cache.search("test", "query", { null }, { searches.incrementAndGet(); AudioReference.NO_TRACK })
+
+        then:
+        searches.get() == 3
+    }
+}
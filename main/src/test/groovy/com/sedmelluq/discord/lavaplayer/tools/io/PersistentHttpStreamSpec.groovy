@@ -248,4 +248,102 @@ class PersistentHttpStreamSpec extends Specification {
         stream.currentContent == null
         stream.getCurrentResponse() == null
     }
+
+    def "range reads use a separate interface and request only the range"() {
+        given:
+        def rangeInterface = Mock(HttpInterface)
+        def response = Mock(ClassicHttpResponse)
+        def entity = Mock(HttpEntity)
+
+        response.getCode() >> 206
+        response.getEntity() >> entity
+        entity.getContent() >> new ByteArrayInputStream([7, 8, 9] as byte[])
+
+        def stream = new PersistentHttpStream(httpInterface, uri, 10L)
+        stream.enableRangeReads({ rangeInterface }, null)
+        def buffer = new byte[3]
+
+        when:
+        int length = stream.readRange(4, buffer, 0, 3)
+
+        then:
+        1 * rangeInterface.execute({ HttpGet request -> request.getFirstHeader("Range").value == "bytes=4-6" }) >> response
+        0 * httpInterface.execute(_)
+        1 * rangeInterface.close()
+        length == 3
+        buffer == [7, 8, 9] as byte[]
+        stream.position == 0
+    }
+
+    def "range reads fail if the server ignores the range"() {
+        given:
+        def rangeInterface = Mock(HttpInterface)
+        def response = Mock(ClassicHttpResponse)
+        response.getCode() >> 200
+        rangeInterface.execute(_ as HttpGet) >> response
+
+        def stream = new PersistentHttpStream(httpInterface, uri, 10L)
+        stream.enableRangeReads({ rangeInterface }, null)
+
+        when:
+        stream.readRange(4, new byte[3], 0, 3)
+
+        then:
+        thrown(IOException)
+    }
+
+    def "range reads retry once after a connection reset"() {
+        given:
+        def rangeInterface = Mock(HttpInterface)
+        def response = Mock(ClassicHttpResponse)
+        def entity = Mock(HttpEntity)
+
+        response.getCode() >> 206
+        response.getEntity() >> entity
+        entity.getContent() >> new ByteArrayInputStream([7, 8, 9] as byte[])
+
+        def stream = new PersistentHttpStream(httpInterface, uri, 10L)
+        stream.enableRangeReads({ rangeInterface }, null)
+        def buffer = new byte[3]
+
+        when:
+        int length = stream.readRange(4, buffer, 0, 3)
+
+        then:
+        1 * rangeInterface.execute(_ as HttpGet) >> { throw new SocketException("Connection reset") }
+
+        then:
+        1 * rangeInterface.execute(_ as HttpGet) >> response
+        length == 3
+        buffer == [7, 8, 9] as byte[]
+    }
+
+    def "range reads request the rest of a range which ended early"() {
+        given:
+        def rangeInterface = Mock(HttpInterface)
+        def firstResponse = Mock(ClassicHttpResponse)
+        def firstEntity = Mock(HttpEntity)
+        def secondResponse = Mock(ClassicHttpResponse)
+        def secondEntity = Mock(HttpEntity)
+
+        firstResponse.getCode() >> 206
+        firstResponse.getEntity() >> firstEntity
+        firstEntity.getContent() >> new ByteArrayInputStream([7] as byte[])
+        secondResponse.getCode() >> 206
+        secondResponse.getEntity() >> secondEntity
+        secondEntity.getContent() >> new ByteArrayInputStream([8, 9] as byte[])
+
+        def stream = new PersistentHttpStream(httpInterface, uri, 10L)
+        stream.enableRangeReads({ rangeInterface }, null)
+        def buffer = new byte[3]
+
+        when:
+        int length = stream.readRange(4, buffer, 0, 3)
+
+        then:
+        1 * rangeInterface.execute({ HttpGet request -> request.getFirstHeader("Range").value == "bytes=4-6" }) >> firstResponse
+        1 * rangeInterface.execute({ HttpGet request -> request.getFirstHeader("Range").value == "bytes=5-6" }) >> secondResponse
+        length == 3
+        buffer == [7, 8, 9] as byte[]
+    }
 }
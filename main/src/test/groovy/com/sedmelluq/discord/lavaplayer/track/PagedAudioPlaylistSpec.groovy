@@ -0,0 +1,115 @@
+package com.sedmelluq.discord.lavaplayer.track
+
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException
+import spock.lang.Specification
+
+class PagedAudioPlaylistSpec extends Specification {
+
+    def "pages are not loaded until they are needed"() {
+        given:
+        def first = Mock(AudioTrack)
+        def loader = Mock(PagedAudioPlaylist.PageLoader)
+        def playlist = new PagedAudioPlaylist("test", [first], first, false, loader)
+
+        when:
+        def loaded = playlist.getLoadedTracks()
+
+        then:
+        0 * loader.loadNextPage()
+        loaded == [first]
+        !playlist.isFullyLoaded()
+    }
+
+    def "iterator loads the next page when it reaches the end of the loaded tracks"() {
+        given:
+        def tracks = (0..3).collect { Mock(AudioTrack) }
+        def pages = [[tracks[1], tracks[2]], [tracks[3]]]
+        def playlist = new PagedAudioPlaylist("test", [tracks[0]], null, false, { pages.isEmpty() ? null : pages.remove(0) })
+
+        when:
+        def iterator = playlist.iterator()
+        def first = iterator.next()
+
+        then:
+        first == tracks[0]
+        playlist.getLoadedCount() == 1
+
+        when:
+        def rest = []
+        while (iterator.hasNext()) {
+            rest << iterator.next()
+        }
+
+        then:
+        rest == tracks[1..3]
+        playlist.isFullyLoaded()
+    }
+
+    def "getTracks returns the loaded tracks without loading more pages"() {
+        given:
+        def first = Mock(AudioTrack)
+        def loader = Mock(PagedAudioPlaylist.PageLoader)
+        def playlist = new PagedAudioPlaylist("test", [first], null, false, loader)
+
+        when:
+        def tracks = playlist.getTracks()
+
+        then:
+        0 * loader.loadNextPage()
+        tracks == [first]
+        !playlist.isFullyLoaded()
+    }
+
+    def "loadRemaining loads all remaining pages"() {
+        given:
+        def tracks = (0..2).collect { Mock(AudioTrack) }
+        def pages = [[tracks[1]], [], [tracks[2]]]
+        def playlist = new PagedAudioPlaylist("test", [tracks[0]], null, false, { pages.isEmpty() ? null : pages.remove(0) })
+
+        when:
+        playlist.loadRemaining()
+
+        then:
+        playlist.getTracks() == tracks
+        playlist.isFullyLoaded()
+    }
+
+    def "a failing page is thrown from every way of loading it and can be retried"() {
+        given:
+        def tracks = (0..1).collect { Mock(AudioTrack) }
+        def failures = 2
+        def pages = [[tracks[1]]]
+        def loader = {
+            if (failures-- > 0) {
+                throw new IOException("fail")
+            }
+
+            pages.isEmpty() ? null : pages.remove(0)
+        } as PagedAudioPlaylist.PageLoader
+        def playlist = new PagedAudioPlaylist("test", [tracks[0]], null, false, loader)
+
+        when:
+        playlist.loadRemaining()
+
+        then:
+        thrown(FriendlyException)
+        !playlist.isFullyLoaded()
+        playlist.getLoadedTracks() == [tracks[0]]
+
+        when:
+        def iterator = playlist.iterator()
+        iterator.next()
+        iterator.hasNext()
+
+        then:
+        thrown(FriendlyException)
+        !playlist.isFullyLoaded()
+
+        when:
+        playlist.loadRemaining()
+
+        then:
+        playlist.getTracks() == tracks
+        playlist.isFullyLoaded()
+    }
+}
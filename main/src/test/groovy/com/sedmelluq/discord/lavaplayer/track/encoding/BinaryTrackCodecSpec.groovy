@@ -0,0 +1,138 @@
+package com.sedmelluq.discord.lavaplayer.track.encoding
+
+import com.sedmelluq.discord.lavaplayer.tools.Units
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteBufferDataInput
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import spock.lang.Specification
+
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+
+class BinaryTrackCodecSpec extends Specification {
+
+    private static final TrackDetailsEncoder DETAILS = { track, output ->
+        output.writeUTF("test")
+        output.writeInt(42)
+    }
+
+    private AudioTrack trackWith(AudioTrackInfo info, long position) {
+        def track = Mock(AudioTrack)
+        track.getInfo() >> info
+        track.getPosition() >> position
+        return track
+    }
+
+    def "a compact encoded track decodes back to the same fields"() {
+        given:
+        def info = new AudioTrackInfo("Tïtle 😀", "author", 12345, "id", false, "https://x", null, "ISRC", 1.5f)
+        def buffer = ByteBuffer.allocate(512)
+
+        when:
+        BinaryTrackCodec.encode(buffer, trackWith(info, 777), DETAILS)
+        BinaryTrackCodec.finish(buffer)
+        buffer.flip()
+        def encoded = BinaryTrackCodec.read(buffer)
+        def decoded = encoded.toTrackInfo()
+        def details = new ByteBufferDataInput(encoded.getDetails())
+
+        then:
+        encoded.version == BinaryTrackCodec.COMPACT_VERSION
+        decoded.title == info.title
+        decoded.author == "author"
+        decoded.length == 12345
+        decoded.identifier == "id"
+        !decoded.isStream
+        decoded.uri == "https://x"
+        decoded.artworkUrl == null
+        decoded.isrc == "ISRC"
+        decoded.replayGainDb == 1.5f
+        encoded.position == 777
+        details.readUTF() == "test"
+        details.readInt() == 42
+        BinaryTrackCodec.read(buffer) == null
+    }
+
+    def "streams with unknown length keep the unknown length marker"() {
+        given:
+        def info = new AudioTrackInfo("title", "author", Units.DURATION_MS_UNKNOWN, "id", true, null)
+        def buffer = ByteBuffer.allocate(512)
+
+        when:
+        BinaryTrackCodec.encode(buffer, trackWith(info, 0), DETAILS)
+        buffer.flip()
+        def encoded = BinaryTrackCodec.read(buffer)
+
+        then:
+        encoded.length == Units.DURATION_MS_UNKNOWN
+        encoded.stream
+    }
+
+    def "version 4 messages written by the stream encoder are readable"() {
+        given:
+        def bytes = new ByteArrayOutputStream()
+        def output = new DataOutputStream(bytes)
+        output.write(4)
+        output.writeUTF("title")
+        output.writeUTF("author")
+        output.writeLong(1000)
+        output.writeUTF("id")
+        output.writeBoolean(false)
+        output.writeBoolean(true)
+        output.writeUTF("uri")
+        output.writeBoolean(false)
+        output.writeBoolean(false)
+        output.writeBoolean(true)
+        output.writeFloat(-3.0f)
+        output.writeUTF("test")
+        output.writeInt(42)
+        output.writeLong(55)
+
+        def payload = bytes.toByteArray()
+        def buffer = ByteBuffer.allocate(payload.length + 4)
+        buffer.putInt(payload.length | 1 << 30).put(payload).flip()
+
+        when:
+        def encoded = BinaryTrackCodec.read(buffer)
+        def details = new ByteBufferDataInput(encoded.getDetails())
+
+        then:
+        encoded.version == 4
+        encoded.title == "title"
+        encoded.length == 1000
+        encoded.uri == "uri"
+        encoded.isrc == null
+        encoded.replayGainDb == -3.0f
+        encoded.position == 55
+        details.readUTF() == "test"
+        details.readInt() == 42
+    }
+
+    def "messages of an unknown version are rejected instead of being read as compact"() {
+        given:
+        def buffer = ByteBuffer.allocate(16)
+        buffer.putInt(3 | BinaryTrackCodec.MESSAGE_FLAG_VERSIONED << 30)
+        buffer.put([6, 0, 0] as byte[])
+        buffer.flip()
+
+        when:
+        BinaryTrackCodec.read(buffer)
+
+        then:
+        thrown(IOException)
+    }
+
+    def "running out of space leaves the buffer position unchanged"() {
+        given:
+        def info = new AudioTrackInfo("title", "author", 1000, "id", false, null)
+        def buffer = ByteBuffer.allocate(16)
+        buffer.position(3)
+
+        when:
+        BinaryTrackCodec.encode(buffer, trackWith(info, 0), DETAILS)
+
+        then:
+        thrown(BufferOverflowException)
+        buffer.position() == 3
+    }
+}
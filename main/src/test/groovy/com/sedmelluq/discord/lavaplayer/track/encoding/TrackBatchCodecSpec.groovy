@@ -0,0 +1,72 @@
+package com.sedmelluq.discord.lavaplayer.track.encoding
+
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import spock.lang.Specification
+
+class TrackBatchCodecSpec extends Specification {
+
+    def sourceManager = Mock(AudioSourceManager)
+    def manager = Mock(AudioPlayerManager)
+
+    def setup() {
+        sourceManager.getSourceName() >> "test"
+        sourceManager.encodeTrack(_, _) >> { AudioTrack track, DataOutput output -> output.writeUTF(track.info.identifier) }
+        manager.getSourceManagers() >> [sourceManager]
+    }
+
+    private AudioTrack trackWith(AudioTrackInfo info, long position) {
+        def track = Mock(AudioTrack)
+        track.getInfo() >> info
+        track.getPosition() >> position
+        track.getSourceManager() >> sourceManager
+        return track
+    }
+
+    def "tracks decode back in order with shared strings and delta encoded fields restored"() {
+        given:
+        def infos = (0..<3).collect {
+            new AudioTrackInfo("title $it", "author", 1000 + it, "id$it", false,
+                "https://example.com/watch?v=id$it", "https://img.example.com/id$it/default.jpg", null, null)
+        }
+        def output = new ByteArrayOutputStream()
+        TrackBatchCodec.encode(output, infos.withIndex().collect { info, index -> trackWith(info, index * 100) })
+        def decodedInfos = []
+        def decodedDetails = []
+
+        when:
+        def reader = new TrackBatchReader(manager, new ByteArrayInputStream(output.toByteArray()))
+        def holders = reader.readRemaining()
+
+        then:
+        3 * sourceManager.decodeTrack(_, _) >> { AudioTrackInfo info, DataInput input ->
+            decodedInfos << info
+            decodedDetails << input.readUTF()
+            Mock(AudioTrack)
+        }
+        reader.trackCount == 3
+        holders.size() == 3
+        decodedInfos*.title == ["title 0", "title 1", "title 2"]
+        decodedInfos*.length == [1000, 1001, 1002]
+        decodedInfos*.uri == infos*.uri
+        decodedInfos*.artworkUrl == infos*.artworkUrl
+        decodedDetails == ["id0", "id1", "id2"]
+    }
+
+    def "tracks of unknown sources decode as empty holders"() {
+        given:
+        def output = new ByteArrayOutputStream()
+        TrackBatchCodec.encode(output, [trackWith(new AudioTrackInfo("title", "author", 1000, "id", false, null), 0)])
+        def otherManager = Mock(AudioPlayerManager)
+        otherManager.getSourceManagers() >> []
+
+        when:
+        def holders = new TrackBatchReader(otherManager, new ByteArrayInputStream(output.toByteArray())).readRemaining()
+
+        then:
+        holders.size() == 1
+        holders[0].decodedTrack == null
+    }
+}